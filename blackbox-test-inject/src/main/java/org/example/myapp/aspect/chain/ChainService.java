@@ -0,0 +1,107 @@
+package org.example.myapp.aspect.chain;
+
+import jakarta.inject.Singleton;
+
+/**
+ * Methods with zero to three aspects used to compare the cost of interception.
+ */
+@Singleton
+public class ChainService {
+
+  private int failures;
+  private long total;
+
+  public int direct(String name, int value) {
+    return name.length() + value;
+  }
+
+  @Timing
+  public int one(String name, int value) {
+    return name.length() + value;
+  }
+
+  @Timing(enabled = false)
+  public int untimed(String name, int value) {
+    return name.length() + value;
+  }
+
+  @Timing(enabled = false)
+  public void untimedVoid(String name, int value) {
+    total += name.length() + value;
+  }
+
+  @Timing
+  @Tracing
+  public int two(String name, int value) {
+    return name.length() + value;
+  }
+
+  @Timing
+  @Tracing
+  @Retrying
+  public int three(String name, int value) {
+    return name.length() + value;
+  }
+
+  @Timing
+  @Tracing
+  @Retrying
+  public void threeVoid(String name, int value) {
+    total += name.length() + value;
+  }
+
+  /**
+   * Fails on the first call such that it is retried.
+   */
+  @Tracing
+  @Retrying
+  public String failOnce(String name) {
+    if (failures++ % 2 == 0) {
+      throw new IllegalStateException("fail " + name);
+    }
+    return "ok " + name;
+  }
+
+  /**
+   * Always fails, used to compare the cost of exceptions through the proxy.
+   */
+  @Tracing
+  public int fail(String name, int value) {
+    throw new IllegalStateException(name);
+  }
+
+  /**
+   * Always fails using the fallback method.
+   */
+  @Retrying(fallback = "recover")
+  public int withFallback(String name, int value) {
+    throw new IllegalStateException(name);
+  }
+
+  public int recover(String name, int value, Throwable e) {
+    return -value;
+  }
+
+  @Retrying(fallback = "recoverVoid")
+  public void withFallbackVoid(String name, int value) {
+    throw new IllegalStateException(name);
+  }
+
+  public void recoverVoid(String name, int value) {
+    total += value;
+  }
+
+  @Tracing
+  public boolean negate(boolean value) {
+    return !value;
+  }
+
+  @Tracing
+  public double half(long value) {
+    return value / 2d;
+  }
+
+  public long total() {
+    return total;
+  }
+}
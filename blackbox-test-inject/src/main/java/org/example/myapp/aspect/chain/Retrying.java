@@ -0,0 +1,22 @@
+package org.example.myapp.aspect.chain;
+
+import io.avaje.inject.aop.Aspect;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Aspect retrying the method call once when it throws.
+ */
+@Aspect(ordering = 1000, fallbackAttribute = "fallback")
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface Retrying {
+
+  /**
+   * The fallback method used when the retry also fails.
+   */
+  String fallback() default "";
+}
@@ -0,0 +1,41 @@
+package org.example.myapp.aspect.chain;
+
+import io.avaje.inject.aop.AspectProvider;
+import io.avaje.inject.aop.Fallback;
+import io.avaje.inject.aop.Invocation;
+import io.avaje.inject.aop.MethodInterceptor;
+import jakarta.inject.Singleton;
+
+import java.lang.reflect.Method;
+
+@Singleton
+public class RetryingAspect implements AspectProvider<Retrying>, MethodInterceptor {
+
+  @Override
+  public MethodInterceptor interceptor(Method method, Retrying aspectAnnotation) {
+    if (aspectAnnotation.fallback().isEmpty()) {
+      return this;
+    }
+    try {
+      final Fallback fallback = Fallback.find(aspectAnnotation.fallback(), method);
+      return invocation -> {
+        try {
+          invoke(invocation);
+        } catch (IllegalStateException e) {
+          fallback.invoke(invocation, e);
+        }
+      };
+    } catch (NoSuchMethodException e) {
+      throw new IllegalStateException(e);
+    }
+  }
+
+  @Override
+  public void invoke(Invocation invocation) throws Throwable {
+    try {
+      invocation.proceed();
+    } catch (IllegalStateException e) {
+      invocation.proceed();
+    }
+  }
+}
@@ -0,0 +1,22 @@
+package org.example.myapp.aspect.chain;
+
+import io.avaje.inject.aop.Aspect;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Aspect timing the method call.
+ */
+@Aspect(ordering = 3000)
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface Timing {
+
+  /**
+   * Set to false to not time the method (the provider skips the method).
+   */
+  boolean enabled() default true;
+}
@@ -0,0 +1,34 @@
+package org.example.myapp.aspect.chain;
+
+import io.avaje.inject.aop.AspectProvider;
+import io.avaje.inject.aop.Invocation;
+import io.avaje.inject.aop.MethodInterceptor;
+import jakarta.inject.Singleton;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.atomic.LongAdder;
+
+@Singleton
+public class TimingAspect implements AspectProvider<Timing>, MethodInterceptor {
+
+  private final LongAdder nanos = new LongAdder();
+
+  @Override
+  public MethodInterceptor interceptor(Method method, Timing aspectAnnotation) {
+    return aspectAnnotation.enabled() ? this : null;
+  }
+
+  @Override
+  public void invoke(Invocation invocation) throws Throwable {
+    final long start = System.nanoTime();
+    try {
+      invocation.proceed();
+    } finally {
+      nanos.add(System.nanoTime() - start);
+    }
+  }
+
+  public long nanos() {
+    return nanos.sum();
+  }
+}
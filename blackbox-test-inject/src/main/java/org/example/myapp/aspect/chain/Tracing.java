@@ -0,0 +1,17 @@
+package org.example.myapp.aspect.chain;
+
+import io.avaje.inject.aop.Aspect;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Aspect tracing the method call.
+ */
+@Aspect(ordering = 2000)
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface Tracing {
+}
@@ -0,0 +1,45 @@
+package org.example.myapp.aspect.chain;
+
+import io.avaje.inject.aop.AspectProvider;
+import io.avaje.inject.aop.InterceptorSwitch;
+import io.avaje.inject.aop.Invocation;
+import io.avaje.inject.aop.MethodInterceptor;
+import jakarta.inject.Singleton;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.atomic.LongAdder;
+
+@Singleton
+public class TracingAspect implements AspectProvider<Tracing>, MethodInterceptor {
+
+  private final InterceptorSwitch enabled = new InterceptorSwitch(true);
+  private final LongAdder calls = new LongAdder();
+  private volatile Object lastArgument;
+
+  @Override
+  public MethodInterceptor interceptor(Method method, Tracing aspectAnnotation) {
+    return enabled.wrap(this);
+  }
+
+  /**
+   * Turn tracing on or off at runtime.
+   */
+  public void enabled(boolean on) {
+    enabled.enabled(on);
+  }
+
+  @Override
+  public void invoke(Invocation invocation) throws Throwable {
+    calls.increment();
+    lastArgument = invocation.argument(0);
+    invocation.proceed();
+  }
+
+  public Object lastArgument() {
+    return lastArgument;
+  }
+
+  public long calls() {
+    return calls.sum();
+  }
+}
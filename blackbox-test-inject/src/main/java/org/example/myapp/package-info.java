@@ -0,0 +1,4 @@
+@InjectModule(concurrent = true, moduleOrdering = true)
+package org.example.myapp;
+
+import io.avaje.inject.InjectModule;
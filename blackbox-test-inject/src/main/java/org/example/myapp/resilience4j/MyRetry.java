@@ -5,7 +5,7 @@ import io.avaje.inject.aop.Aspect;
 import java.lang.annotation.Retention;
 import java.lang.annotation.RetentionPolicy;
 
-@Aspect
+@Aspect(fallbackAttribute = "fallbackMethod")
 @Retention(RetentionPolicy.RUNTIME)
 public @interface MyRetry {
 
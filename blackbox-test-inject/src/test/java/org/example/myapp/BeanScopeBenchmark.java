@@ -0,0 +1,203 @@
+package org.example.myapp;
+
+import io.avaje.inject.BeanHandle;
+import io.avaje.inject.BeanScope;
+import io.avaje.inject.spi.Builder;
+import io.avaje.inject.spi.Module;
+import org.example.myapp.config.AppConfig;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.IntUnaryOperator;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Rough comparison of bean lookups from a scope, not run with the tests.
+ * <p>
+ * Run with {@code mvn test -Pbenchmark}.
+ */
+class BeanScopeBenchmark {
+
+  static BeanScope root;
+  static BeanScope level3;
+  static BeanScope level5;
+
+  @BeforeAll
+  static void before() {
+    root = BeanScope.builder()
+      .provideDefault(Shared.class, () -> new Shared(1))
+      .bean("blue", Counter.class, new Counter(2))
+      .bean("red", Counter.class, new Counter(3))
+      .build();
+
+    BeanScope scope = root;
+    for (int level = 2; level <= 5; level++) {
+      scope = BeanScope.builder().parent(scope).modules(new EmptyModule()).build();
+      if (level == 3) {
+        level3 = scope;
+      }
+    }
+    level5 = scope;
+  }
+
+  @AfterAll
+  static void after() {
+    level5.close();
+    root.close();
+  }
+
+  /**
+   * Rough throughput of a provided default bean read by 64 threads at once.
+   */
+  @Test
+  void concurrentReadsPerMillisecond() throws Exception {
+    final int threads = 64;
+    final int count = 200_000;
+    final ExecutorService executor = Executors.newFixedThreadPool(threads);
+    try {
+      for (int round = 0; round < 3; round++) {
+        final CountDownLatch start = new CountDownLatch(1);
+        final List<Future<Long>> futures = new ArrayList<>();
+        for (int t = 0; t < threads; t++) {
+          futures.add(executor.submit(() -> {
+            start.await();
+            long sum = 0;
+            for (int i = 0; i < count; i++) {
+              sum += root.get(Shared.class).value;
+            }
+            return sum;
+          }));
+        }
+        final long begin = System.nanoTime();
+        start.countDown();
+        long sum = 0;
+        for (Future<Long> future : futures) {
+          sum += future.get();
+        }
+        final long nanos = System.nanoTime() - begin;
+        assertThat(sum).isPositive();
+        if (round == 2) {
+          System.out.println(threads + " readers reads/ms " + (long) threads * count * 1_000_000L / nanos);
+        }
+      }
+    } finally {
+      executor.shutdown();
+    }
+  }
+
+  /**
+   * Rough cost of looking up a bean held by the root of a 1, 3 and 5 level scope hierarchy.
+   */
+  @Test
+  void parentLookupsPerMillisecond() {
+    final String[] names = {"depth 1", "depth 3", "depth 5"};
+    final IntUnaryOperator[] calls = {
+      i -> root.get(Counter.class, "blue").value,
+      i -> level3.get(Counter.class, "blue").value,
+      i -> level5.get(Counter.class, "blue").value};
+    report(names, calls);
+  }
+
+  /**
+   * Rough comparison of a bean handle against get() for a single bean,
+   * one of several named candidates and a bean resolved from a parent scope.
+   */
+  @Test
+  void handleVsGetPerMillisecond() {
+    final BeanHandle<Shared> single = root.handle(Shared.class, null);
+    final BeanHandle<Counter> named = root.handle(Counter.class, "red");
+    final BeanHandle<Counter> parent = level3.handle(Counter.class, "red");
+    final String[] names = {
+      "get single", "handle single",
+      "get named", "handle named",
+      "get parent", "handle parent"};
+    final IntUnaryOperator[] calls = {
+      i -> root.get(Shared.class).value,
+      i -> single.get().value,
+      i -> root.get(Counter.class, "red").value,
+      i -> named.get().value,
+      i -> level3.get(Counter.class, "red").value,
+      i -> parent.get().value};
+    report(names, calls);
+  }
+
+  /**
+   * Rough rate of creating prototype instances compared to calling new.
+   */
+  @Test
+  void prototypesPerMillisecond() {
+    final BeanHandle<AppConfig.Builder> handle = root.handle(AppConfig.Builder.class, null);
+    final String[] names = {"new", "prototype get", "prototype handle"};
+    final IntUnaryOperator[] calls = {
+      i -> new AppConfig.Builder().hashCode() | 1,
+      i -> root.get(AppConfig.Builder.class).hashCode() | 1,
+      i -> handle.get().hashCode() | 1};
+    report(names, calls);
+  }
+
+  private static void report(String[] names, IntUnaryOperator[] calls) {
+    // rounds to warm up with the last round reported
+    for (int round = 0; round < 3; round++) {
+      for (int i = 0; i < calls.length; i++) {
+        final long rate = callsPerMillisecond(calls[i]);
+        if (round == 2) {
+          System.out.println(names[i] + " calls/ms " + rate);
+        }
+      }
+    }
+  }
+
+  private static long callsPerMillisecond(IntUnaryOperator call) {
+    final int count = 2_000_000;
+    long sum = 0;
+    final long start = System.nanoTime();
+    for (int i = 0; i < count; i++) {
+      sum += call.applyAsInt(i);
+    }
+    final long nanos = System.nanoTime() - start;
+    assertThat(sum).isPositive();
+    return count * 1_000_000L / nanos;
+  }
+
+  static final class Shared {
+
+    final int value;
+
+    Shared(int value) {
+      this.value = value;
+    }
+  }
+
+  static final class Counter {
+
+    final int value;
+
+    Counter(int value) {
+      this.value = value;
+    }
+  }
+
+  /**
+   * Module with no beans such that child scopes only add a level.
+   */
+  static final class EmptyModule implements Module {
+
+    @Override
+    public Class<?>[] classes() {
+      return EMPTY_CLASSES;
+    }
+
+    @Override
+    public void build(Builder builder) {
+      // no beans
+    }
+  }
+}
@@ -0,0 +1,46 @@
+package org.example.myapp;
+
+import io.avaje.inject.BeanEntry;
+import io.avaje.inject.BeanScope;
+import io.avaje.inject.spi.Module;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ModuleOrderingTest {
+
+  @Test
+  void modules_inBuildOrder() {
+    final List<String> modules = new MyappModuleOrdering().modules().stream()
+      .map(module -> module.getClass().getName())
+      .collect(Collectors.toList());
+
+    // MyappModule requires types provided by the other modules
+    assertThat(modules).last().isEqualTo(MyappModule.class.getName());
+    assertThat(modules).contains("org.other.one.OneModule", "org.example.external.aspect.sub.ExampleExternalAspectModule");
+  }
+
+  @Test
+  void moduleOrdering_sameAsServiceLoaded() throws IOException {
+    try (BeanScope serviceLoaded = BeanScope.builder().build();
+         BeanScope ordered = BeanScope.builder().moduleOrdering(new MyappModuleOrdering()).build()) {
+
+      assertThat(types(ordered)).isEqualTo(types(serviceLoaded));
+      for (BeanEntry entry : serviceLoaded.all()) {
+        assertThat(ordered.list(entry.type())).hasSameSizeAs(serviceLoaded.list(entry.type()));
+      }
+      assertThat(ordered.get(HelloService.class).bazz("foo", 42)).isEqualTo("bazz foo 42");
+    }
+  }
+
+  private static List<String> types(BeanScope scope) {
+    return scope.all().stream()
+      .map(entry -> entry.type().getTypeName())
+      .sorted()
+      .collect(Collectors.toList());
+  }
+}
@@ -0,0 +1,53 @@
+package org.example.myapp;
+
+import io.avaje.inject.BeanEntry;
+import io.avaje.inject.BeanScope;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ParallelBuildTest {
+
+  @Test
+  void parallel_sameAsSequential() throws IOException {
+    try (BeanScope sequential = BeanScope.builder().build();
+         BeanScope parallel = BeanScope.builder().parallel().build()) {
+
+      assertThat(types(parallel)).isEqualTo(types(sequential));
+      for (BeanEntry entry : sequential.all()) {
+        // same registration order
+        assertThat(names(parallel.list(entry.type()))).isEqualTo(names(sequential.list(entry.type())));
+      }
+      assertThat(parallel.get(HelloService.class).bazz("foo", 42)).isEqualTo("bazz foo 42");
+    }
+  }
+
+  @Test
+  void parallelPostConstruct() throws IOException {
+    try (BeanScope sequential = BeanScope.builder().build();
+         BeanScope parallel = BeanScope.builder().parallelPostConstruct(Duration.ofSeconds(30)).build()) {
+
+      assertThat(types(parallel)).isEqualTo(types(sequential));
+      assertThat(parallel.get(HelloService.class).bazz("foo", 42)).isEqualTo("bazz foo 42");
+    }
+  }
+
+  private static List<String> types(BeanScope scope) {
+    return scope.all().stream()
+      .map(BeanEntry::type)
+      .map(Class::getName)
+      .sorted()
+      .collect(Collectors.toList());
+  }
+
+  private static List<String> names(List<?> beans) {
+    return beans.stream()
+      .map(bean -> bean.getClass().getName())
+      .collect(Collectors.toList());
+  }
+}
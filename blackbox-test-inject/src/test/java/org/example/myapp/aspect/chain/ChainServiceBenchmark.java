@@ -0,0 +1,99 @@
+package org.example.myapp.aspect.chain;
+
+import io.avaje.inject.BeanScope;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.util.function.IntUnaryOperator;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Rough comparison of calls through the aspect chain, not run with the tests.
+ * <p>
+ * Run with {@code mvn test -Pbenchmark}.
+ */
+class ChainServiceBenchmark {
+
+  static BeanScope scope;
+  static ChainService service;
+
+  @BeforeAll
+  static void before() {
+    scope = BeanScope.builder().build();
+    service = scope.get(ChainService.class);
+  }
+
+  @AfterAll
+  static void after() {
+    scope.close();
+  }
+
+  /**
+   * Rough comparison of the cost of calling through 0 to 3 aspects.
+   * The disabled aspect is expected to be close to the direct call.
+   */
+  @Test
+  void callsPerMillisecond() {
+    final String[] names = {"direct", "disabled aspect", "1 aspect", "2 aspects", "3 aspects"};
+    final IntUnaryOperator[] calls = {
+      i -> service.direct("a", i),
+      i -> service.untimed("a", i),
+      i -> service.one("a", i),
+      i -> service.two("a", i),
+      i -> service.three("a", i)};
+    // rounds to warm up with the last round reported
+    for (int round = 0; round < 3; round++) {
+      for (int i = 0; i < calls.length; i++) {
+        final long rate = callsPerMillisecond(calls[i]);
+        if (round == 2) {
+          System.out.println(names[i] + " calls/ms " + rate);
+        }
+      }
+    }
+  }
+
+  /**
+   * Rough cost of failing calls through an aspect.
+   */
+  @Test
+  void failingCallsPerMillisecond() {
+    final IntUnaryOperator direct = i -> {
+      try {
+        throw new IllegalStateException("a");
+      } catch (IllegalStateException e) {
+        return e.getSuppressed().length + 1;
+      }
+    };
+    final IntUnaryOperator proxied = i -> {
+      try {
+        return service.fail("a", i);
+      } catch (IllegalStateException e) {
+        return e.getSuppressed().length + 1;
+      }
+    };
+    for (int round = 0; round < 3; round++) {
+      final long directRate = callsPerMillisecond(direct, 200_000);
+      final long proxiedRate = callsPerMillisecond(proxied, 200_000);
+      if (round == 2) {
+        System.out.println("failing calls/ms direct " + directRate + " through aspect " + proxiedRate);
+      }
+    }
+  }
+
+  private static long callsPerMillisecond(IntUnaryOperator call) {
+    return callsPerMillisecond(call, 2_000_000);
+  }
+
+  private static long callsPerMillisecond(IntUnaryOperator call, int count) {
+    long sum = 0;
+    final long start = System.nanoTime();
+    for (int i = 0; i < count; i++) {
+      sum += call.applyAsInt(i);
+    }
+    final long nanos = System.nanoTime() - start;
+    assertThat(sum).isPositive();
+    return count * 1_000_000L / nanos;
+  }
+}
@@ -0,0 +1,96 @@
+package org.example.myapp.aspect.chain;
+
+import io.avaje.inject.BeanScope;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ChainServiceTest {
+
+  static BeanScope scope;
+  static ChainService service;
+
+  @BeforeAll
+  static void before() {
+    scope = BeanScope.builder().build();
+    service = scope.get(ChainService.class);
+  }
+
+  @AfterAll
+  static void after() {
+    scope.close();
+  }
+
+  @Test
+  void aspects_invokedInOrder() {
+    final TracingAspect tracing = scope.get(TracingAspect.class);
+    final long calls = tracing.calls();
+    assertThat(service.one("a", 1)).isEqualTo(2);
+    assertThat(service.two("ab", 1)).isEqualTo(3);
+    assertThat(service.three("abc", 1)).isEqualTo(4);
+    assertThat(tracing.calls()).isEqualTo(calls + 2);
+    assertThat(scope.get(TimingAspect.class).nanos()).isGreaterThan(0);
+
+    final long total = service.total();
+    service.threeVoid("abc", 1);
+    assertThat(service.total()).isEqualTo(total + 4);
+  }
+
+  @Test
+  void primitiveResultsAndArguments() {
+    final TracingAspect tracing = scope.get(TracingAspect.class);
+    assertThat(service.negate(true)).isFalse();
+    assertThat(tracing.lastArgument()).isEqualTo(true);
+    assertThat(service.half(5L)).isEqualTo(2.5d);
+    assertThat(tracing.lastArgument()).isEqualTo(5L);
+  }
+
+  @Test
+  void disabledAspect_callsMethodDirectly() {
+    final TimingAspect timing = scope.get(TimingAspect.class);
+    final long nanos = timing.nanos();
+    assertThat(service.untimed("ab", 1)).isEqualTo(3);
+    final long total = service.total();
+    service.untimedVoid("ab", 1);
+    assertThat(service.total()).isEqualTo(total + 3);
+    assertThat(timing.nanos()).isEqualTo(nanos);
+  }
+
+  @Test
+  void switchedAspect_toggledAtRuntime() {
+    final TracingAspect tracing = scope.get(TracingAspect.class);
+    final long calls = tracing.calls();
+    try {
+      tracing.enabled(false);
+      assertThat(service.negate(true)).isFalse();
+      assertThat(service.two("ab", 1)).isEqualTo(3);
+      assertThat(tracing.calls()).isEqualTo(calls);
+
+      tracing.enabled(true);
+      assertThat(service.negate(true)).isFalse();
+      assertThat(service.two("ab", 1)).isEqualTo(3);
+      assertThat(tracing.calls()).isEqualTo(calls + 2);
+    } finally {
+      tracing.enabled(true);
+    }
+  }
+
+  @Test
+  void fallback_boundAtCompileTime() {
+    assertThat(service.withFallback("a", 7)).isEqualTo(-7);
+    final long total = service.total();
+    service.withFallbackVoid("a", 3);
+    assertThat(service.total()).isEqualTo(total + 3);
+  }
+
+  @Test
+  void innerAspect_retries() {
+    final TracingAspect tracing = scope.get(TracingAspect.class);
+    final long calls = tracing.calls();
+    assertThat(service.failOnce("x")).isEqualTo("ok x");
+    // the outer tracing aspect is invoked once with the inner aspect retrying
+    assertThat(tracing.calls()).isEqualTo(calls + 1);
+  }
+}
@@ -0,0 +1,146 @@
+package io.avaje.inject.generator;
+
+import static io.avaje.inject.generator.APContext.logError;
+import static io.avaje.inject.generator.APContext.types;
+
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A fallback method of an aspect method that is validated at compile time and
+ * called directly by the generated proxy.
+ */
+final class AspectFallback {
+
+  private final String name;
+  private final ExecutableElement fallback;
+  private final boolean withThrowable;
+  private final boolean checkedExceptions;
+
+  private AspectFallback(String name, ExecutableElement fallback, boolean withThrowable) {
+    this.name = name;
+    this.fallback = fallback;
+    this.withThrowable = withThrowable;
+    this.checkedExceptions = fallback.getThrownTypes().stream().anyMatch(t -> !ProcessingContext.isUncheckedException(t));
+  }
+
+  /**
+   * Find the fallback method declared on the same type as the method.
+   * <p>
+   * Like {@code Fallback.find()} this first looks for the method with the same parameters
+   * plus a Throwable last parameter and then the method with the same parameters. Logs an
+   * error and returns null when no valid fallback method is found.
+   */
+  static AspectFallback find(ExecutableElement method, String name) {
+    final List<ExecutableElement> candidates = new ArrayList<>();
+    for (Element element : method.getEnclosingElement().getEnclosedElements()) {
+      if (element.getKind() == ElementKind.METHOD && element.getSimpleName().contentEquals(name)) {
+        candidates.add((ExecutableElement) element);
+      }
+    }
+    ExecutableElement fallback = matching(method, candidates, true);
+    final boolean withThrowable = fallback != null;
+    if (fallback == null) {
+      fallback = matching(method, candidates, false);
+    }
+    if (fallback == null) {
+      logError(method, "Fallback method %s not found for %s. Expected a method with the same parameters and optionally a Throwable last parameter", name, method.getSimpleName());
+      return null;
+    }
+    if (fallback.getModifiers().contains(Modifier.PRIVATE)) {
+      logError(fallback, "Fallback method %s must not be private", name);
+      return null;
+    }
+    final TypeMirror returnType = method.getReturnType();
+    if (returnType.getKind() != TypeKind.VOID && !types().isAssignable(fallback.getReturnType(), returnType)) {
+      logError(fallback, "Fallback method %s returns %s which is not assignable to %s", name, fallback.getReturnType(), returnType);
+      return null;
+    }
+    return new AspectFallback(name, fallback, withThrowable);
+  }
+
+  private static ExecutableElement matching(ExecutableElement method, List<ExecutableElement> candidates, boolean withThrowable) {
+    final List<? extends VariableElement> params = method.getParameters();
+    for (ExecutableElement candidate : candidates) {
+      final List<? extends VariableElement> candidateParams = candidate.getParameters();
+      if (candidateParams.size() != params.size() + (withThrowable ? 1 : 0)) {
+        continue;
+      }
+      boolean match = true;
+      for (int i = 0; i < params.size() && match; i++) {
+        match = sameErasure(params.get(i).asType(), candidateParams.get(i).asType());
+      }
+      if (match && withThrowable) {
+        match = candidateParams.get(params.size()).asType().toString().equals("java.lang.Throwable");
+      }
+      if (match) {
+        return candidate;
+      }
+    }
+    return null;
+  }
+
+  private static boolean sameErasure(TypeMirror type, TypeMirror other) {
+    return types().isSameType(types().erasure(type), types().erasure(other));
+  }
+
+  String name() {
+    return name;
+  }
+
+  /**
+   * Write the method of the invocation that calls the fallback method with the arguments.
+   */
+  void write(Append writer, String proxyShortName, int index, List<MethodReader.MethodParam> params, boolean methodVoid) {
+    writer.eol();
+    writer.append("    Object fallback%s(Throwable e) {", index).eol();
+    String indent = "      ";
+    if (checkedExceptions) {
+      writer.append("      try {").eol();
+      indent = "        ";
+    }
+    final boolean isVoid = fallback.getReturnType().getKind() == TypeKind.VOID;
+    writer.append(indent);
+    if (!isVoid) {
+      writer.append("var value = ");
+    }
+    if (fallback.getModifiers().contains(Modifier.STATIC)) {
+      writer.append("%s.%s(", proxyShortName, name);
+    } else {
+      writer.append("%s.this.%s(", proxyShortName, name);
+    }
+    for (int i = 0; i < params.size(); i++) {
+      if (i > 0) {
+        writer.append(", ");
+      }
+      writer.append("this.%s", AspectMethod.argumentField(i));
+    }
+    if (withThrowable) {
+      writer.append(params.isEmpty() ? "e" : ", e");
+    }
+    writer.append(");").eol();
+    if (isVoid) {
+      writer.append(indent).append("return null;").eol();
+    } else {
+      if (!methodVoid) {
+        writer.append(indent).append("result(value);").eol();
+      }
+      writer.append(indent).append("return value;").eol();
+    }
+    if (checkedExceptions) {
+      writer.append("      } catch (RuntimeException | Error ex) {").eol();
+      writer.append("        throw ex;").eol();
+      writer.append("      } catch (Throwable ex) {").eol();
+      writer.append("        throw new InvocationException(\"Error invoking fallback method\", ex);").eol();
+      writer.append("      }").eol();
+    }
+    writer.append("    }").eol();
+  }
+}
@@ -5,6 +5,7 @@ import static java.util.stream.Collectors.joining;
 
 import javax.lang.model.element.ExecutableElement;
 import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.PrimitiveType;
 import javax.lang.model.type.TypeMirror;
 import java.util.*;
 import io.avaje.inject.generator.MethodReader.MethodParam;
@@ -18,6 +19,8 @@ final class AspectMethod {
   private final String simpleName;
   private final List<? extends TypeMirror> thrownTypes;
   private final String localName;
+  private final String callName;
+  private final List<AspectFallback> fallbacks;
 
   AspectMethod(int nameIndex, List<AspectPair> aspectPairs, ExecutableElement method) {
     this.aspectPairs = sort(aspectPairs);
@@ -27,6 +30,26 @@ final class AspectMethod {
     this.rawReturn = method.getReturnType().toString();
     this.thrownTypes = method.getThrownTypes();
     this.localName = simpleName + nameIndex;
+    this.callName = Character.toUpperCase(localName.charAt(0)) + localName.substring(1) + "Call";
+    this.fallbacks = initFallbacks();
+  }
+
+  /**
+   * Find and validate the fallback methods of the aspects.
+   */
+  private List<AspectFallback> initFallbacks() {
+    final List<AspectFallback> list = new ArrayList<>();
+    final Set<String> names = new HashSet<>();
+    for (AspectPair aspectPair : aspectPairs) {
+      final String name = aspectPair.fallbackMethod();
+      if (name != null && names.add(name)) {
+        final AspectFallback fallback = AspectFallback.find(method, name);
+        if (fallback != null) {
+          list.add(fallback);
+        }
+      }
+    }
+    return list;
   }
 
   private List<AspectPair> sort(List<AspectPair> aspectPairs) {
@@ -62,9 +85,55 @@ final class AspectMethod {
     for (TypeMirror thrownType : method.getThrownTypes()) {
       importTypes.add(thrownType.toString());
     }
+    if (!fallbacks.isEmpty()) {
+      importTypes.add(Constants.FALLBACK);
+    }
   }
 
-  void writeMethod(Append writer) {
+  /**
+   * Return the name of the invocation field holding the argument at the given index.
+   * <p>
+   * These are positional such that they do not hide the fields of the base invocation.
+   */
+  static String argumentField(int index) {
+    return "$a" + index;
+  }
+
+  /**
+   * Return the capitalised primitive type for int, long, double and boolean (null otherwise).
+   * <p>
+   * These have specialised invocations and argument accessors that avoid boxing.
+   */
+  private static String specialised(TypeMirror type) {
+    switch (type.getKind()) {
+      case INT:
+        return "Int";
+      case LONG:
+        return "Long";
+      case DOUBLE:
+        return "Double";
+      case BOOLEAN:
+        return "Boolean";
+      default:
+        return null;
+    }
+  }
+
+  /**
+   * Return the result type of the invocation (boxed for primitives).
+   */
+  private String resultType() {
+    if (isVoid()) {
+      return "Void";
+    }
+    final TypeMirror returnType = method.getReturnType();
+    if (returnType.getKind().isPrimitive()) {
+      return APContext.types().boxedClass((PrimitiveType) returnType).getSimpleName().toString();
+    }
+    return rawReturn;
+  }
+
+  void writeMethod(Append writer, String proxyShortName) {
     writer.eol().append("  @Override").eol();
     writer.append("  public %s %s(", rawReturn, simpleName);
     for (int i = 0, size = params.size(); i < size; i++) {
@@ -77,44 +146,179 @@ final class AspectMethod {
     writeThrowsClause(writer);
 
     writer.append(" {").eol();
+    writer.append("    var %sInterceptors = %sChain.interceptors();", localName, localName).eol();
+    writer.append("    if (%sInterceptors == null) {", localName).eol();
+    // no enabled interceptors so call the method directly
+    writer.append(isVoid() ? "      super.%s(" : "      return super.%s(", simpleName);
+    writeParamNames(writer);
+    writer.append(");").eol();
+    if (isVoid()) {
+      writer.append("      return;").eol();
+    }
+    writer.append("    }").eol();
+    writer.append("    var call = new %s(%sInterceptors", callName, localName);
+    for (MethodParam param : params) {
+      writer.append(", %s", param.simpleName());
+    }
+    writer.append(");").eol();
+    writeIntercept(writer);
+    writer.append("  }").eol();
+    writeCallClass(writer, proxyShortName);
+  }
 
-    String type = isVoid() ? "Run" : "Call<>";
-    writer.append("    var call = new Invocation.%s(() ->", type);
-    invokeSuper(writer, simpleName);
-    writer.append(")").eol();
-    writeArgs(writer);
+  /**
+   * Write the invocation holding the arguments that calls the super method.
+   */
+  private void writeCallClass(Append writer, String proxyShortName) {
+    final String specialised = specialised(method.getReturnType());
+    writer.eol();
+    if (specialised != null) {
+      writer.append("  private final class %s extends Invocation.Chained%s {", callName, specialised).eol().eol();
+    } else {
+      writer.append("  private final class %s extends Invocation.Chained<%s> {", callName, resultType()).eol().eol();
+    }
+    for (int i = 0; i < params.size(); i++) {
+      writer.append("    private final ");
+      writeArgumentField(writer, i);
+      writer.append(";").eol();
+    }
+    if (!params.isEmpty()) {
+      writer.eol();
+    }
+    writer.append("    %s(MethodInterceptor[] interceptors", callName);
+    for (int i = 0; i < params.size(); i++) {
+      writer.append(", ");
+      writeArgumentField(writer, i);
+    }
+    writer.append(") {").eol();
+    writer.append("      super(%s.this, %s, interceptors);", proxyShortName, localName).eol();
+    for (int i = 0; i < params.size(); i++) {
+      writer.append("      this.%s = %s;", argumentField(i), argumentField(i)).eol();
+    }
+    writer.append("    }").eol().eol();
+    writer.append("    @Override").eol();
+    writer.append("    protected void invokeMethod() throws Throwable {").eol();
+    if (isVoid()) {
+      writer.append("      %s.super.%s(", proxyShortName, simpleName);
+    } else if (specialised != null) {
+      // set without boxing
+      writer.append("      result(%s.super.%s(", proxyShortName, simpleName);
+    } else {
+      writer.append("      result = %s.super.%s(", proxyShortName, simpleName);
+    }
+    writeArgumentFields(writer);
+    writer.append(specialised != null ? "));" : ");").eol();
+    writer.append("    }").eol().eol();
+    writer.append("    @Override").eol();
+    writer.append("    protected Object[] createArguments() {").eol();
+    writer.append("      return new Object[]{");
+    writeArgumentFields(writer);
+    writer.append("};").eol();
+    writer.append("    }").eol();
+    writeArgumentAccessors(writer);
+    writeFallbacks(writer, proxyShortName);
     writer.append("  }").eol();
   }
 
-  private void writeThrowsClause(Append writer) {
-    if (!thrownTypes.isEmpty()) {
-      writer.append(" throws ");
-      for (int i = 0; i < thrownTypes.size(); i++) {
-        if (i > 0) {
-          writer.append(", ");
-        }
-        writer.append(Util.shortName(thrownTypes.get(i).toString()));
+  /**
+   * Write the argument accessors that avoid creating the arguments array and boxing.
+   */
+  private void writeArgumentAccessors(Append writer) {
+    if (params.isEmpty()) {
+      return;
+    }
+    writeArgumentAccessor(writer, "Object", "argument", null);
+    final Set<String> types = new LinkedHashSet<>();
+    for (VariableElement param : method.getParameters()) {
+      final String specialised = specialised(param.asType());
+      if (specialised != null) {
+        types.add(specialised);
+      }
+    }
+    for (String type : types) {
+      writeArgumentAccessor(writer, type.toLowerCase(Locale.ROOT), type.toLowerCase(Locale.ROOT) + "Argument", type);
+    }
+  }
+
+  /**
+   * Write the fallback methods bound at compile time that the aspect fallbacks call directly.
+   */
+  private void writeFallbacks(Append writer, String proxyShortName) {
+    if (fallbacks.isEmpty()) {
+      return;
+    }
+    writer.eol();
+    writer.append("    @Override").eol();
+    writer.append("    protected Object fallback(String name, Throwable e, Fallback reflective) {").eol();
+    writer.append("      switch (name) {").eol();
+    for (int i = 0; i < fallbacks.size(); i++) {
+      writer.append("        case \"%s\": return fallback%s(e);", fallbacks.get(i).name(), i).eol();
+    }
+    writer.append("        default: return super.fallback(name, e, reflective);").eol();
+    writer.append("      }").eol();
+    writer.append("    }").eol();
+    for (int i = 0; i < fallbacks.size(); i++) {
+      fallbacks.get(i).write(writer, proxyShortName, i, params, isVoid());
+    }
+  }
+
+  private void writeArgumentAccessor(Append writer, String type, String accessor, String specialised) {
+    writer.eol();
+    writer.append("    @Override").eol();
+    writer.append("    public %s %s(int index) {", type, accessor).eol();
+    writer.append("      switch (index) {").eol();
+    final List<? extends VariableElement> parameters = method.getParameters();
+    for (int i = 0; i < parameters.size(); i++) {
+      if (specialised == null || specialised.equals(specialised(parameters.get(i).asType()))) {
+        writer.append("        case %s: return this.%s;", i, argumentField(i)).eol();
       }
     }
+    writer.append("        default: return super.%s(index);", accessor).eol();
+    writer.append("      }").eol();
+    writer.append("    }").eol();
   }
 
-  private void invokeSuper(Append writer, String simpleName) {
-    writer.append(" super.%s(", simpleName);
+  private void writeParamNames(Append writer) {
     for (int i = 0, size = params.size(); i < size; i++) {
       if (i > 0) {
         writer.append(", ");
       }
       writer.append(params.get(i).simpleName());
     }
-    writer.append(")");
+  }
+
+  /**
+   * Write the argument field declaration as the parameter type with the positional name.
+   */
+  private void writeArgumentField(Append writer, int index) {
+    params.get(index).writeMethodParamAspect(writer, argumentField(index));
+  }
+
+  private void writeArgumentFields(Append writer) {
+    for (int i = 0, size = params.size(); i < size; i++) {
+      if (i > 0) {
+        writer.append(", ");
+      }
+      writer.append(argumentField(i));
+    }
+  }
+
+  private void writeThrowsClause(Append writer) {
+    if (!thrownTypes.isEmpty()) {
+      writer.append(" throws ");
+      for (int i = 0; i < thrownTypes.size(); i++) {
+        if (i > 0) {
+          writer.append(", ");
+        }
+        writer.append(Util.shortName(thrownTypes.get(i).toString()));
+      }
+    }
   }
 
   void writeSetupFields(Append writer) {
+    writer.append("  private static final InvocationException %sMarker = InvocationException.proxyMarker(\"%s\");", localName, simpleName).eol();
     writer.append("  private final Method %s;", localName).eol();
-    for (AspectPair aspectPair : aspectPairs) {
-      String sn = aspectPair.annotationShortName();
-      writer.append("  private final MethodInterceptor %s%s;", localName, sn).eol();
-    }
+    writer.append("  private final InterceptorChain %sChain;", localName).eol();
   }
 
   void writeSetupForMethods(Append writer, String shortName) {
@@ -125,12 +329,15 @@ final class AspectMethod {
       writer.append(".class");
     }
     writer.append(");").eol();
-    for (AspectPair aspect : aspectPairs) {
-      String name = Util.initLower(aspect.annotationShortName());
-      String sn = aspect.annotationShortName();
-      writer.append("      %s%s = %s.interceptor(%s, %s.getAnnotation(%s.class));", localName, sn, name, localName, localName, sn).eol();
+    // the interceptors chained outer-most (highest ordering) first
+    writer.append("      %sChain = InterceptorChain.of(", localName);
+    for (int i = aspectPairs.size() - 1; i >= 0; i--) {
+      final AspectPair aspect = aspectPairs.get(i);
+      final String name = Util.initLower(aspect.annotationShortName());
+      final String sn = aspect.annotationShortName();
+      writer.eol().append("        %s.interceptor(%s, %s.getAnnotation(%s.class))%s", name, localName, localName, sn, i > 0 ? "," : ");");
     }
-    writer.eol();
+    writer.eol().eol();
   }
 
   static String aspectTargetShortName(String target) {
@@ -138,51 +345,20 @@ final class AspectMethod {
     return Util.initLower(type);
   }
 
-  void writeArgs(Append writer) {
-    writer.append("      .with(this, %s", localName);
-    if (!params.isEmpty()) {
-      writer.append(", ");
-      for (int i = 0, size = params.size(); i < size; i++) {
-        if (i > 0) {
-          writer.append(", ");
-        }
-        writer.append(params.get(i).simpleName());
-      }
-    }
-    writer.append(")");
-    int aspectCount = aspectPairs.size();
-    if (aspectCount < 2) {
-      writer.append(";").eol();
-    } else {
-      // nesting all but last aspect
-      writer.eol();
-      writer.append("      // wrapping inner nested aspects based on ordering attribute").eol();
-      int nesting = aspectCount - 1;
-      for (int i = 0; i < nesting; i++) {
-        AspectPair aspect = aspectPairs.get(i);
-        String sn = aspect.annotationShortName();
-        writer.append("      .wrap(%s%s)", localName, sn);
-        if (i < nesting -1) {
-          writer.eol();
-        } else {
-          writer.append(";").eol();
-        }
-      }
-    }
+  private void writeIntercept(Append writer) {
     writer.append("    try {").eol();
-    if (aspectCount > 1) {
-      writer.append("      // outer-most aspect").eol();
-    }
-    final AspectPair outerAspect = aspectPairs.get(aspectCount - 1);
-    final String sn = outerAspect.annotationShortName();
-    writer.append("      %s%s.invoke(call);", localName, sn).eol();
-
+    writer.append("      call.intercept();").eol();
     if (!isVoid()) {
-      writer.append("      return call.finalResult();").eol();
+      final String specialised = specialised(method.getReturnType());
+      if (specialised != null) {
+        writer.append("      return call.%sResult();", specialised.toLowerCase(Locale.ROOT)).eol();
+      } else {
+        writer.append("      return call.finalResult();").eol();
+      }
     }
 
     writer.append("    } catch (RuntimeException ex) {").eol();
-    writer.append("      ex.addSuppressed(new InvocationException(\"%s proxy threw exception\"));", simpleName).eol();
+    writer.append("      InvocationException.addMarker(ex, %sMarker);", localName).eol();
     writer.append("      throw ex;").eol();
     writeThrowsCatch(writer);
     if (thrownTypes.stream().map(Object::toString).noneMatch("java.lang.Throwable"::equals)) {
@@ -205,7 +381,7 @@ final class AspectMethod {
         .collect(collectingAndThen(joining(" | "), writer::append))
         .append(" e) {")
         .eol(); 
-    writer.append("      e.addSuppressed(new InvocationException(\"%s proxy threw exception\"));", simpleName).eol();
+    writer.append("      InvocationException.addMarker(e, %sMarker);", localName).eol();
     writer.append("      throw e;").eol();
   }
 }
@@ -7,11 +7,13 @@ final class AspectPair implements Comparable<AspectPair> {
   private final int ordering;
   private final String annotationFullName;
   private final String annotationShortName;
+  private final String fallbackMethod;
 
-  AspectPair(Element anElement, int ordering) {
+  AspectPair(Element anElement, int ordering, String fallbackMethod) {
     this.ordering = ordering;
     this.annotationFullName = anElement.asType().toString();
     this.annotationShortName = Util.shortName(annotationFullName);
+    this.fallbackMethod = fallbackMethod;
   }
 
   void addImports(ImportTypeMap importTypes) {
@@ -23,6 +25,13 @@ final class AspectPair implements Comparable<AspectPair> {
     return annotationShortName;
   }
 
+  /**
+   * Return the name of the fallback method or null if the aspect does not specify one.
+   */
+  String fallbackMethod() {
+    return fallbackMethod;
+  }
+
   @Override
   public int compareTo(AspectPair o) {
     return Integer.compare(ordering, o.ordering);
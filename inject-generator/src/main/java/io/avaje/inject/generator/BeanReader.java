@@ -25,6 +25,8 @@ final class BeanReader {
   private final BeanRequestParams requestParams;
   private final TypeReader typeReader;
   private final boolean prototype;
+  private final boolean lazyModule;
+  private boolean lazy;
   private final boolean primary;
   private final boolean secondary;
   private final boolean proxy;
@@ -37,11 +39,13 @@ final class BeanReader {
   private boolean suppressGeneratedImport;
   private Set<GenericType> allGenericTypes;
 
-  BeanReader(TypeElement beanType, boolean factory, boolean importedComponent) {
+  BeanReader(TypeElement beanType, boolean factory, boolean importedComponent, boolean lazyModule) {
     this.beanType = beanType;
     this.type = beanType.getQualifiedName().toString();
     this.shortName = shortName(beanType);
     this.prototype = PrototypePrism.isPresent(beanType);
+    this.lazyModule = lazyModule;
+    this.lazy = LazyPrism.isPresent(beanType);
     this.primary = PrimaryPrism.isPresent(beanType);
     this.secondary = !primary && SecondaryPrism.isPresent(beanType);
     this.typeReader = new TypeReader(GenericType.parse(type), beanType, importTypes, factory);
@@ -65,7 +69,9 @@ final class BeanReader {
       this.proxy = true;
       var proxyMirror = proxyPrism.value();
       if (!"Void".equals(proxyMirror.toString())) {
-        conditions.readAll(APContext.asTypeElement(proxyMirror));
+        var proxyTarget = APContext.asTypeElement(proxyMirror);
+        conditions.readAll(proxyTarget);
+        this.lazy = LazyPrism.isPresent(proxyTarget);
       }
     } else {
       conditions.readAll(beanType);
@@ -90,6 +96,20 @@ final class BeanReader {
     return prototype;
   }
 
+  /**
+   * Return true if the bean is registered as a provider and created on first use.
+   */
+  boolean lazy() {
+    return lazy;
+  }
+
+  /**
+   * Return true if the bean is created via a provider (prototype or lazy).
+   */
+  boolean provided() {
+    return prototype || lazy;
+  }
+
   boolean importedComponent() {
     return importedComponent;
   }
@@ -108,13 +128,32 @@ final class BeanReader {
       method.checkRequest(requestParams);
     }
     for (MethodReader factoryMethod : factoryMethods) {
+      factoryMethod.checkLazy(lazyModule);
       factoryMethod.addImports(importTypes);
     }
 
     conditions.addImports(importTypes);
+    checkLazy();
     return this;
   }
 
+  /**
+   * Make the bean lazy (when the module is lazy) unless it needs to be created when the
+   * scope is built or explicitly has @Lazy but does not support it.
+   */
+  private void checkLazy() {
+    if (!factoryMethods.isEmpty() || isGenerateProxy()) {
+      // @Lazy applies to the factory methods or the generated proxy
+      lazy = false;
+      return;
+    }
+    final boolean unsupported = prototype || preDestroyMethod != null || typeReader.isClosable() || isRequestScopedController();
+    if (lazy && unsupported) {
+      logError(beanType, "@Lazy is not supported on a bean with @Prototype, PreDestroy lifecycle or request scope");
+    }
+    lazy = (lazy || lazyModule) && !unsupported;
+  }
+
   List<Dependency> dependsOn() {
     List<Dependency> list = new ArrayList<>();
     if (constructor != null) {
@@ -236,8 +275,20 @@ final class BeanReader {
     writer.append(")) {").eol();
   }
 
-  void buildRegister(Append writer) {
+  void buildRegisterProvider(Append writer) {
+    writer.append("      builder.");
     if (prototype) {
+      writer.append("asPrototype().");
+    } else if (primary) {
+      writer.append("asPrimary().");
+    } else if (secondary) {
+      writer.append("asSecondary().");
+    }
+    writer.append("registerProvider(() -> {").eol();
+  }
+
+  void buildRegister(Append writer) {
+    if (provided()) {
       return;
     }
     writer.indent("      ");
@@ -254,19 +305,19 @@ final class BeanReader {
   }
 
   void addLifecycleCallbacks(Append writer, String indent) {
-    if (postConstructMethod != null && !prototype) {
+    if (postConstructMethod != null && !provided()) {
       writer.indent(indent).append(" builder.addPostConstruct($bean::%s);", postConstructMethod.getSimpleName()).eol();
     }
     if (preDestroyMethod != null) {
       prototypeNotSupported("@PreDestroy");
       var priority = preDestroyPriority == null || preDestroyPriority == 1000 ? "" : ", " + preDestroyPriority;
       writer.indent(indent).append(" builder.addPreDestroy($bean::%s%s);", preDestroyMethod.getSimpleName(), priority).eol();
-    } else if (typeReader.isClosable() && !prototype) {
+    } else if (typeReader.isClosable() && !provided()) {
       writer.indent(indent).append(" builder.addPreDestroy($bean);").eol();
     }
   }
 
-  void prototypePostConstruct(Append writer, String indent) {
+  void providedPostConstruct(Append writer, String indent) {
     if (postConstructMethod != null) {
       writer.append("%s bean.%s();", indent, postConstructMethod.getSimpleName()).eol();
     }
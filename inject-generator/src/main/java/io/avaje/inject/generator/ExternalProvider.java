@@ -3,6 +3,7 @@ package io.avaje.inject.generator;
 import static java.util.Map.entry;
 import static java.util.List.of;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.ServiceConfigurationError;
@@ -41,34 +42,80 @@ final class ExternalProvider {
     }
   }
 
-  static void registerModuleProvidedTypes(Set<String> providedTypes) {
+  /**
+   * Register the types provided by the modules detected on the classpath.
+   *
+   * @return The detected modules or null when modules can not be detected
+   */
+  static List<ModuleOrderingWriter.Entry> registerModuleProvidedTypes(Set<String> providedTypes) {
     if (!injectAvailable) {
       System.out.println("Unable to detect Avaje Inject in Annotation Processor ClassPath, use the Avaje Inject Maven/Gradle plugin for detecting Inject Modules from dependencies");
-      return;
+      return null;
     }
 
+    final List<ModuleOrderingWriter.Entry> modules = new ArrayList<>();
     final var iterator = ServiceLoader.load(Module.class, ExternalProvider.class.getClassLoader()).iterator();
     if (!iterator.hasNext()) {
       System.out.println("No external modules detected");
-      return;
+      return modules;
     }
     while (iterator.hasNext()) {
       try {
         final var module = iterator.next();
         System.out.println("Detected Module: " + module.getClass().getCanonicalName());
+        final var entry = new ModuleOrderingWriter.Entry(module.getClass().getCanonicalName(), module.provides().length > 0);
         for (final Class<?> provide : module.provides()) {
           providedTypes.add(provide.getCanonicalName());
+          entry.provides(provide.getCanonicalName());
         }
         for (final Class<?> provide : module.autoProvides()) {
           providedTypes.add(provide.getCanonicalName());
+          entry.provides(provide.getCanonicalName());
         }
         for (final Class<?> provide : module.autoProvidesAspects()) {
           providedTypes.add(Util.wrapAspect(provide.getCanonicalName()));
+          entry.provides(provide.getCanonicalName());
         }
+        requires(entry, module.requires());
+        requires(entry, module.requiresPackages());
+        requires(entry, module.autoRequires());
+        requires(entry, module.autoRequiresAspects());
+        modules.add(entry);
       } catch (final ServiceConfigurationError expected) {
         // ignore expected error reading the module that we are also writing
       }
     }
+    return modules;
+  }
+
+  /**
+   * Return the modules from the lines of avaje-module-dependencies.csv written by the maven/gradle plugin.
+   */
+  static List<ModuleOrderingWriter.Entry> moduleEntries(List<String> lines) {
+    final List<ModuleOrderingWriter.Entry> modules = new ArrayList<>();
+    for (final String line : lines) {
+      if (line.isBlank() || line.startsWith("#")) {
+        continue;
+      }
+      // module|provides|autoProvides|requires
+      final String[] columns = line.split("\\|", -1);
+      final var entry = new ModuleOrderingWriter.Entry(columns[0], !columns[1].isEmpty());
+      types(columns[1]).forEach(entry::provides);
+      types(columns[2]).forEach(entry::provides);
+      types(columns[3]).forEach(entry::requires);
+      modules.add(entry);
+    }
+    return modules;
+  }
+
+  private static List<String> types(String column) {
+    return column.isEmpty() ? List.of() : List.of(column.split(","));
+  }
+
+  private static void requires(ModuleOrderingWriter.Entry entry, Class<?>[] requires) {
+    for (final Class<?> require : requires) {
+      entry.requires(require.getCanonicalName());
+    }
   }
 
   /**
@@ -47,9 +47,31 @@ final class FieldReader {
     type.addImports(importTypes);
   }
 
+  /**
+   * Return true if the dependency can be captured once as a Provider (a single non generic bean).
+   */
+  boolean isCaptureProvider() {
+    return utype.isSingleBean() && !nullable && !isBeanMap && !isGenericParam();
+  }
+
+  /**
+   * Return the code to obtain a Provider for the dependency.
+   */
+  String builderGetProvider(String builder) {
+    final var sb = new StringBuilder();
+    sb.append(builder).append(".getProvider(");
+    appendDependencyKey(sb);
+    return sb.append(")").toString();
+  }
+
   String builderGetDependency(String builder) {
     final var sb = new StringBuilder();
     sb.append(builder).append(".").append(utype.getMethod(nullable, isBeanMap));
+    appendDependencyKey(sb);
+    return sb.append(")").toString();
+  }
+
+  private void appendDependencyKey(StringBuilder sb) {
     if (isGenericParam()) {
       sb.append("TYPE_").append(type.shortName().replace(".", "_"));
     } else {
@@ -59,8 +81,6 @@ final class FieldReader {
     if (name != null) {
       sb.append(",\"").append(name).append("\"");
     }
-    sb.append(")");
-    return sb.toString();
   }
 
   void removeFromProvides(List<String> provides) {
@@ -229,6 +229,36 @@ final class MetaDataOrdering {
     return orderedList;
   }
 
+  /**
+   * Return the dependency level of each of the ordered beans.
+   * <p>
+   * Beans with no dependencies on other beans in this module are level 0 and otherwise
+   * a bean is one level above the highest level of the beans it depends on. Beans of the
+   * same level do not depend on each other and can be built concurrently.
+   */
+  int[] levels() {
+    final Map<MetaData, Integer> levels = new HashMap<>();
+    final int[] result = new int[orderedList.size()];
+    for (int i = 0; i < result.length; i++) {
+      final MetaData metaData = orderedList.get(i);
+      int level = 0;
+      for (Dependency dependency : metaData.dependsOn()) {
+        final ProviderList providerList = providers.get(dependency.name());
+        if (providerList != null) {
+          for (MetaData provider : providerList.list) {
+            final Integer providerLevel = levels.get(provider);
+            if (providerLevel != null) {
+              level = Math.max(level, providerLevel + 1);
+            }
+          }
+        }
+      }
+      levels.put(metaData, level);
+      result[i] = level;
+    }
+    return result;
+  }
+
   Set<String> importTypes() {
     Set<String> importTypes = new TreeSet<>();
     for (MetaData metaData : orderedList) {
@@ -7,6 +7,7 @@ import java.util.Collections;
 import java.util.List;
 import java.util.Set;
 
+import static io.avaje.inject.generator.APContext.logError;
 import static io.avaje.inject.generator.ProcessingContext.asElement;
 
 
@@ -18,6 +19,7 @@ final class MethodReader {
   private final String factoryType;
   private final String methodName;
   private final boolean prototype;
+  private boolean lazy;
   private final boolean primary;
   private final boolean secondary;
   private final String returnTypeRaw;
@@ -43,6 +45,7 @@ final class MethodReader {
     this.element = element;
     if (bean != null) {
       prototype = PrototypePrism.isPresent(element);
+      lazy = LazyPrism.isPresent(element) || LazyPrism.isPresent(beanType);
       primary = PrimaryPrism.isPresent(element);
       secondary = SecondaryPrism.isPresent(element);
       conditions.readAll(element);
@@ -176,6 +179,40 @@ final class MethodReader {
     writer.append(");").eol();
   }
 
+  /**
+   * Capture the Providers of the single bean dependencies into local variables such that
+   * provider based beans (like prototype) do not look up these dependencies on each create.
+   *
+   * @return The provider variable name per parameter (null when not captured)
+   */
+  List<String> writeCaptureProviders(Append writer, String indent, String prefix) {
+    final List<String> providers = new ArrayList<>(params.size());
+    for (int i = 0; i < params.size(); i++) {
+      final MethodParam param = params.get(i);
+      if (param.isCaptureProvider()) {
+        final String providerVar = prefix + i;
+        param.writeCaptureProvider(writer, indent, providerVar);
+        providers.add(providerVar);
+      } else {
+        providers.add(null);
+      }
+    }
+    return providers;
+  }
+
+  /**
+   * Write the parameters using the captured providers.
+   */
+  void writeParams(Append writer, String builderName, List<String> providers) {
+    for (int i = 0; i < params.size(); i++) {
+      if (i > 0) {
+        writer.append(", ");
+      }
+      params.get(i).builderGetDependency(writer, builderName, providers == null ? null : providers.get(i));
+    }
+    writer.append(");").eol();
+  }
+
   void builderAddBeanProvider(Append writer) {
     if (isVoid) {
       writer.append("Error - void @Prototype method ?").eol();
@@ -186,20 +223,27 @@ final class MethodReader {
       return;
     }
     String indent = "    ";
+    final List<String> providers = writeCaptureProviders(writer, indent + "  ", "$p");
     if (prototype) {
       writer.indent(indent).append("  builder.asPrototype().registerProvider(() -> {").eol();
-    } else {
+    } else if (secondary) {
       writer.indent(indent).append("  builder.asSecondary().registerProvider(() -> {").eol();
+    } else if (primary) {
+      writer.indent(indent).append("  builder.asPrimary().registerProvider(() -> {").eol();
+    } else {
+      writer.indent(indent).append("  builder.registerProvider(() -> {").eol();
     }
-    writer.indent(indent).append("    return ");
-    writer.append("factory.%s(", methodName);
-    for (int i = 0; i < params.size(); i++) {
-      if (i > 0) {
-        writer.append(", ");
-      }
-      params.get(i).builderGetDependency(writer, "builder");
+    if (lazy && notEmpty(initMethod)) {
+      writer.indent(indent).append("    var bean = ");
+      writer.append("factory.%s(", methodName);
+      writeParams(writer, "builder", providers);
+      writer.indent(indent).append("    bean.%s();", initMethod).eol();
+      writer.indent(indent).append("    return bean;").eol();
+    } else {
+      writer.indent(indent).append("    return ");
+      writer.append("factory.%s(", methodName);
+      writeParams(writer, "builder", providers);
     }
-    writer.append(");").eol();
     writer.indent(indent).append("  });").eol();
     writer.indent(indent).append("}").eol();
   }
@@ -336,6 +380,24 @@ final class MethodReader {
     return prototype;
   }
 
+  boolean isLazy() {
+    return lazy;
+  }
+
+  /**
+   * Make the bean lazy (when the factory or module is lazy) unless it needs to be created
+   * when the scope is built. Only an explicit @Lazy on the factory method that does not
+   * support it is an error, with @Lazy on the factory these methods are not lazy.
+   */
+  void checkLazy(boolean lazyModule) {
+    final boolean unsupported = prototype || isVoid || optionalType || notEmpty(destroyMethod)
+      || typeReader != null && typeReader.isClosable() || beanCloseable;
+    if (unsupported && LazyPrism.isPresent(element)) {
+      logError(element, "@Lazy is not supported on a factory method with @Prototype, void or Optional return type, or PreDestroy lifecycle");
+    }
+    lazy = (lazy || lazyModule) && !unsupported;
+  }
+
   boolean isUseProviderForSecondary() {
     return secondary && !optionalType;
   }
@@ -411,8 +473,40 @@ final class MethodReader {
       }
     }
 
+    /**
+     * Return true if the dependency can be captured once as a Provider (a single non generic bean).
+     */
+    boolean isCaptureProvider() {
+      return utilType.isSingleBean() && !nullable && !isBeanMap && !genericType.isGenericType();
+    }
+
+    /**
+     * Capture the Provider of the dependency into a local variable.
+     */
+    void writeCaptureProvider(Append writer, String indent, String providerVar) {
+      writer.indent(indent).append("var ").append(providerVar).append(" = builder.getProvider(");
+      writeDependencyKey(writer);
+      writer.append(");").eol();
+    }
+
+    /**
+     * Write the dependency using the captured provider when there is one.
+     */
+    void builderGetDependency(Append writer, String builderName, String providerVar) {
+      if (providerVar != null) {
+        writer.append(providerVar).append(".get()");
+      } else {
+        builderGetDependency(writer, builderName);
+      }
+    }
+
     void builderGetDependency(Append writer, String builderName) {
       writer.append(builderName).append(".").append(utilType.getMethod(nullable, isBeanMap));
+      writeDependencyKey(writer);
+      writer.append(")");
+    }
+
+    private void writeDependencyKey(Append writer) {
       if (!genericType.isGenericType()) {
         writer.append(Util.shortName(genericType.topType())).append(".class");
       } else if (isProvider()) {
@@ -423,17 +517,10 @@ final class MethodReader {
       if (named != null && !named.isEmpty()) {
         writer.append(",\"").append(named).append("\"");
       } else if (!isGenericParam() && utilType.allowsNamedQualifier()) {
-        // implied qualifier name, leading '!' means implied
-        writer.append(",\"!");
-        final String shortName = Util.shortName(paramType);
-        if (simpleName.endsWith(shortName)) {
-          writer.append(simpleName, 0, simpleName.length() - shortName.length());
-        } else {
-          writer.append(simpleName);
-        }
-        writer.append("\"");
+        // implied qualifier name, leading '!' means implied, written in lower case
+        // such that it does not need to be converted at runtime
+        writer.append(",\"!").append(simpleName.toLowerCase()).append("\"");
       }
-      writer.append(")");
     }
 
     private String providerParam() {
@@ -499,12 +586,19 @@ final class MethodReader {
     }
 
     void writeMethodParamAspect(Append writer) {
+      writeMethodParamAspect(writer, simpleName);
+    }
+
+    /**
+     * Write the parameter type with the given name (rather than the parameter name).
+     */
+    void writeMethodParamAspect(Append writer, String name) {
       if (fullGenericType.isGenericType()) {
         fullGenericType.writeShort(writer);
       } else {
         writer.append(Util.shortName(fullGenericType.topType()));
       }
-      writer.append(" ").append(simpleName);
+      writer.append(" ").append(name);
     }
 
     void writeMethodParamTypeAspect(Append writer) {
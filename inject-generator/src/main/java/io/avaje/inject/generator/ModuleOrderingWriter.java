@@ -0,0 +1,190 @@
+package io.avaje.inject.generator;
+
+import static io.avaje.inject.generator.APContext.createSourceFile;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Write the ModuleOrdering for the module and the modules detected on the classpath.
+ * <p>
+ * The modules are ordered the same way as BeanScopeBuilder orders the service loaded
+ * modules such that the ordering can be used without service loading at runtime.
+ */
+final class ModuleOrderingWriter {
+
+  private static final String CODE_COMMENT =
+    "/**\n" +
+      " * Avaje Inject modules in build order for %s.\n" +
+      " * \n" +
+      " * Build the BeanScope using this ordering to skip service loading and ordering\n" +
+      " * the modules at startup like:\n" +
+      " * \n" +
+      " * <pre>{@code\n" +
+      " * \n" +
+      " *   BeanScope.builder().moduleOrdering(new %s()).build();\n" +
+      " * \n" +
+      " * }</pre>\n" +
+      " */";
+
+  /**
+   * A module with the types it provides and requires.
+   */
+  static final class Entry {
+
+    private final String name;
+    private final boolean explicitlyProvides;
+    private final Set<String> provides = new LinkedHashSet<>();
+    private final Set<String> requires = new LinkedHashSet<>();
+    private boolean pushed;
+
+    Entry(String name, boolean explicitlyProvides) {
+      this.name = name;
+      this.explicitlyProvides = explicitlyProvides;
+    }
+
+    void provides(String type) {
+      provides.add(ScopeInfo.trimGenerics(type));
+    }
+
+    void requires(String type) {
+      requires.add(ScopeInfo.trimGenerics(type));
+    }
+
+    String name() {
+      return name;
+    }
+
+    @Override
+    public String toString() {
+      return name;
+    }
+  }
+
+  private final String modulePackage;
+  private final String shortName;
+  private final String moduleShortName;
+  private final List<Entry> modules;
+
+  private final List<Entry> ordered = new ArrayList<>();
+  private final List<Entry> queue = new ArrayList<>();
+  private final List<Entry> queueNoDependencies = new ArrayList<>();
+  private final Map<String, List<Entry>> providesMap = new HashMap<>();
+
+  ModuleOrderingWriter(String modulePackage, String moduleShortName, List<Entry> externalModules, Entry module) {
+    this.modulePackage = modulePackage;
+    this.moduleShortName = moduleShortName;
+    this.shortName = moduleShortName + "Ordering";
+    this.modules = new ArrayList<>();
+    for (Entry external : externalModules) {
+      // exclude the module when detected from a prior compile
+      if (!external.name.equals(module.name)) {
+        modules.add(external);
+      }
+    }
+    this.modules.add(module);
+  }
+
+  void write() throws IOException {
+    order();
+    final Append writer = new Append(createSourceFile(fullName()).openWriter());
+    if (modulePackage != null) {
+      writer.append("package %s;", modulePackage).eol().eol();
+    }
+    writer.append("import %s;", Constants.GENERATED).eol();
+    writer.append("import %s;", Constants.MODULE).eol();
+    writer.append("import io.avaje.inject.spi.ModuleOrdering;").eol();
+    writer.append("import java.util.List;").eol().eol();
+    writer.append(CODE_COMMENT, moduleShortName, shortName).eol();
+    writer.append(Constants.AT_GENERATED).eol();
+    writer.append("public final class %s implements ModuleOrdering {", shortName).eol().eol();
+    writer.append("  @Override").eol();
+    writer.append("  public List<Module> modules() {").eol();
+    writer.append("    return List.of(");
+    for (int i = 0; i < ordered.size(); i++) {
+      writer.append(i == 0 ? "" : ",").eol();
+      writer.append("      new %s()", ordered.get(i).name());
+    }
+    writer.append(");").eol();
+    writer.append("  }").eol();
+    writer.append("}").eol();
+    writer.close();
+  }
+
+  private String fullName() {
+    return modulePackage == null ? shortName : modulePackage + "." + shortName;
+  }
+
+  /**
+   * Order the modules as per BeanScopeBuilder.
+   */
+  List<Entry> order() {
+    for (Entry module : modules) {
+      module.pushed = false;
+      addProvides(module, module.name);
+      for (String type : module.provides) {
+        addProvides(module, type);
+      }
+      if (module.requires.isEmpty()) {
+        if (module.explicitlyProvides) {
+          push(module);
+        } else {
+          queueNoDependencies.add(module);
+        }
+      } else {
+        queue.add(module);
+      }
+    }
+    for (Entry module : queueNoDependencies) {
+      push(module);
+    }
+    int count;
+    do {
+      count = processQueue();
+    } while (count > 0);
+    // remaining expected to be provided by a parent scope or supplied beans
+    for (Entry module : queue) {
+      push(module);
+    }
+    return ordered;
+  }
+
+  private void addProvides(Entry module, String type) {
+    providesMap.computeIfAbsent(type, s -> new ArrayList<>()).add(module);
+  }
+
+  private void push(Entry module) {
+    module.pushed = true;
+    ordered.add(module);
+  }
+
+  private int processQueue() {
+    int count = 0;
+    final Iterator<Entry> it = queue.iterator();
+    while (it.hasNext()) {
+      final Entry module = it.next();
+      if (satisfiedDependencies(module)) {
+        it.remove();
+        push(module);
+        count++;
+      }
+    }
+    return count;
+  }
+
+  private boolean satisfiedDependencies(Entry module) {
+    for (String dependency : module.requires) {
+      final List<Entry> providers = providesMap.get(dependency);
+      if (providers == null || !providers.stream().allMatch(m -> m.pushed)) {
+        return false;
+      }
+    }
+    return true;
+  }
+}
@@ -43,19 +43,24 @@ final class ProcessingContext {
     private final Set<String> providedTypes = new HashSet<>();
     private final Set<String> optionalTypes = new LinkedHashSet<>();
     private final Map<String, AspectImportPrism> aspectImportPrisms = new HashMap<>();
+    private List<ModuleOrderingWriter.Entry> externalModules;
     private boolean validated;
 
-    public Ctx(ProcessingEnvironment processingEnv, Set<String> moduleFileProvided) {
+    public Ctx(ProcessingEnvironment processingEnv, Set<String> moduleFileProvided, List<String> moduleFileDependencies) {
 
-      ExternalProvider.registerModuleProvidedTypes(providedTypes);
+      externalModules = ExternalProvider.registerModuleProvidedTypes(providedTypes);
+      if (!moduleFileDependencies.isEmpty()) {
+        // detected by the maven/gradle plugin using the compile classpath
+        externalModules = ExternalProvider.moduleEntries(moduleFileDependencies);
+      }
       providedTypes.addAll(moduleFileProvided);
     }
 
     public Ctx() {}
   }
 
-  public static void init(ProcessingEnvironment processingEnv, Set<String> moduleFileProvided) {
-    CTX.set(new Ctx(processingEnv, moduleFileProvided));
+  public static void init(ProcessingEnvironment processingEnv, Set<String> moduleFileProvided, List<String> moduleFileDependencies) {
+    CTX.set(new Ctx(processingEnv, moduleFileProvided, moduleFileDependencies));
     APContext.init(processingEnv);
   }
 
@@ -140,6 +145,13 @@ final class ProcessingContext {
     return CTX.get().uniqueModuleNames.contains(moduleFullName);
   }
 
+  /**
+   * Return the modules detected on the classpath (null when they can not be detected).
+   */
+  static List<ModuleOrderingWriter.Entry> externalModules() {
+    return CTX.get().externalModules;
+  }
+
   static boolean externallyProvided(String type) {
     return CTX.get().providedTypes.contains(type) || CTX.get().optionalTypes.contains(type);
   }
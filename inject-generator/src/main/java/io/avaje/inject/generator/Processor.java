@@ -42,6 +42,7 @@ public final class Processor extends AbstractProcessor {
   private boolean readModuleInfo;
   private final Set<String> pluginFileProvided = new HashSet<>();
   private final Set<String> moduleFileProvided = new HashSet<>();
+  private final List<String> moduleFileDependencies = new ArrayList<>();
 
   @Override
   public SourceVersion getSupportedSourceVersion() {
@@ -52,7 +53,7 @@ public final class Processor extends AbstractProcessor {
   public synchronized void init(ProcessingEnvironment processingEnv) {
     super.init(processingEnv);
     loadProvidedFiles(processingEnv.getFiler());
-    ProcessingContext.init(processingEnv, moduleFileProvided);
+    ProcessingContext.init(processingEnv, moduleFileProvided, moduleFileDependencies);
     this.elementUtils = processingEnv.getElementUtils();
     this.allScopes = new AllScopes();
     this.defaultScope = allScopes.defaultScope();
@@ -68,6 +69,8 @@ public final class Processor extends AbstractProcessor {
     moduleFileProvided.addAll(lines(filer, "target/avaje-module-provides.txt", "/target/classes"));
     pluginFileProvided.addAll(lines(filer, "build/avaje-plugin-provides.txt", "/build/classes/java/main"));
     moduleFileProvided.addAll(lines(filer, "build/avaje-module-provides.txt", "/build/classes/java/main"));
+    moduleFileDependencies.addAll(lines(filer, "target/avaje-module-dependencies.csv", "/target/classes"));
+    moduleFileDependencies.addAll(lines(filer, "build/avaje-module-dependencies.csv", "/build/classes/java/main"));
   }
 
   private static List<String> lines(Filer filer, String relativeName, String replace) {
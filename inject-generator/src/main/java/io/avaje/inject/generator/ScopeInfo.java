@@ -69,6 +69,9 @@ final class ScopeInfo {
   private JavaFileObject moduleFile;
   private boolean emptyModule;
   private boolean ignoreSingleton;
+  private boolean concurrent;
+  private boolean lazy;
+  private boolean moduleOrdering;
 
   /**
    * Create for the main/global module scope.
@@ -104,6 +107,33 @@ final class ScopeInfo {
     return !ignoreSingleton;
   }
 
+  /**
+   * Return true if the beans of the module can be built concurrently by dependency level.
+   */
+  boolean concurrent() {
+    return concurrent;
+  }
+
+  /**
+   * Return true if a ModuleOrdering is generated for the module.
+   */
+  boolean moduleOrdering() {
+    return moduleOrdering;
+  }
+
+  /**
+   * Return the module entry used to order the module with the modules on the classpath.
+   */
+  ModuleOrderingWriter.Entry moduleOrderingEntry(Set<String> autoProvides, Set<String> autoRequires) {
+    final var entry = new ModuleOrderingWriter.Entry(moduleFullName, !provides.isEmpty());
+    provides.forEach(entry::provides);
+    autoProvides.forEach(entry::provides);
+    requires.forEach(entry::requires);
+    requiresPackages.forEach(entry::requires);
+    autoRequires.forEach(entry::requires);
+    return entry;
+  }
+
   void details(String name, Element contextElement) {
     if (name == null || name.isEmpty()) {
       final String simpleName = contextElement.getSimpleName().toString();
@@ -120,6 +150,9 @@ final class ScopeInfo {
       return;
     }
     ignoreSingleton = injectModule.ignoreSingleton();
+    concurrent = injectModule.concurrent();
+    lazy = injectModule.lazy();
+    moduleOrdering = injectModule.moduleOrdering();
     injectModule.requires().stream().map(Object::toString).forEach(requires::add);
     injectModule.provides().stream().map(Object::toString).forEach(provides::add);
     injectModule.requiresPackages().stream()
@@ -300,7 +333,7 @@ final class ScopeInfo {
       logNote("skipping annotation type " + typeElement);
       return;
     }
-    beanReaders.add(new BeanReader(typeElement, factory, importedComponent).read());
+    beanReaders.add(new BeanReader(typeElement, factory, importedComponent, lazy).read());
   }
 
   void readBuildMethodDependencyMeta(Element element) {
@@ -361,6 +394,27 @@ final class ScopeInfo {
       attributeClasses(leadingComma, writer, "requiresPackages", requiresPackages);
       leadingComma = true;
     }
+    if (concurrent) {
+      if (leadingComma) {
+        writer.append(", ");
+      }
+      writer.append("concurrent = true");
+      leadingComma = true;
+    }
+    if (lazy) {
+      if (leadingComma) {
+        writer.append(", ");
+      }
+      writer.append("lazy = true");
+      leadingComma = true;
+    }
+    if (moduleOrdering) {
+      if (leadingComma) {
+        writer.append(", ");
+      }
+      writer.append("moduleOrdering = true");
+      leadingComma = true;
+    }
     if (annotationType != null) {
       if (leadingComma) {
         writer.append(", ");
@@ -43,7 +43,7 @@ final class SimpleBeanProxyWriter {
 
   private void writeMethods() {
     for (AspectMethod method : aspects.methods()) {
-      method.writeMethod(writer);
+      method.writeMethod(writer, shortName + suffix);
     }
   }
 
@@ -90,6 +90,7 @@ final class SimpleBeanProxyWriter {
 
   private void writeImports() {
     writer.append("import %s;", Constants.REFLECT_METHOD).eol();
+    writer.append("import %s;", Constants.INTERCEPTOR_CHAIN).eol();
     writer.append("import %s;", Constants.INVOCATION).eol();
     writer.append("import %s;", Constants.INVOCATION_EXCEPTION).eol();
     writer.append("import %s;", Constants.METHOD_INTERCEPTOR).eol();
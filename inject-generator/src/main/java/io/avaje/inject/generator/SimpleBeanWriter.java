@@ -5,6 +5,7 @@ import static io.avaje.inject.generator.APContext.logError;
 
 import java.io.IOException;
 import java.io.Writer;
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -136,7 +137,7 @@ final class SimpleBeanWriter {
     method.buildAddFor(writer);
     method.builderGetFactory(writer, beanReader.hasConditions());
     method.startTry(writer);
-    if (method.isProtoType() || method.isUseProviderForSecondary()) {
+    if (method.isProtoType() || method.isLazy() || method.isUseProviderForSecondary()) {
       method.builderAddBeanProvider(writer);
       method.endTry(writer);
     } else {
@@ -166,9 +167,10 @@ final class SimpleBeanWriter {
   private void writeAddFor(MethodReader constructor) {
     beanReader.buildConditional(writer);
     beanReader.buildAddFor(writer);
-    if (beanReader.prototype()) {
+    if (beanReader.provided()) {
+      writeCaptureProviders(constructor);
       indent += "  ";
-      writer.append("      builder.asPrototype().registerProvider(() -> {", shortName, shortName).eol();
+      beanReader.buildRegisterProvider(writer);
     }
     constructor.startTry(writer);
     writeCreateBean(constructor);
@@ -177,8 +179,8 @@ final class SimpleBeanWriter {
     if (beanReader.isExtraInjectionRequired()) {
       writeExtraInjection();
     }
-    if (beanReader.prototype()) {
-      beanReader.prototypePostConstruct(writer, indent);
+    if (beanReader.provided()) {
+      beanReader.providedPostConstruct(writer, indent);
       writer.indent("        return bean;").eol();
       writer.indent("      });").eol();
     }
@@ -186,8 +188,33 @@ final class SimpleBeanWriter {
     writer.append("    }").eol();
   }
 
+  /**
+   * Capture the Providers of the single bean dependencies of a prototype or lazy bean once
+   * such that creating an instance does not look up these dependencies.
+   */
+  private void writeCaptureProviders(MethodReader constructor) {
+    constructorProviders = constructor.writeCaptureProviders(writer, "      ", "$c");
+    final List<FieldReader> fields = beanReader.injectFields();
+    fieldProviders = new ArrayList<>(fields.size());
+    for (int i = 0; i < fields.size(); i++) {
+      final FieldReader field = fields.get(i);
+      if (field.isCaptureProvider()) {
+        final String providerVar = "$f" + i;
+        writer.indent("      ").append("var %s = %s;", providerVar, field.builderGetProvider("builder")).eol();
+        fieldProviders.add(providerVar);
+      } else {
+        fieldProviders.add(null);
+      }
+    }
+    final List<MethodReader> methods = beanReader.injectMethods();
+    methodProviders = new ArrayList<>(methods.size());
+    for (int i = 0; i < methods.size(); i++) {
+      methodProviders.add(methods.get(i).writeCaptureProviders(writer, "      ", "$m" + i + "_"));
+    }
+  }
+
   private void writeBuildMethodStart() {
-    if (beanReader.prototype()) {
+    if (beanReader.provided()) {
       writer.append(CODE_COMMENT_BUILD_PROVIDER, shortName).eol();
     } else {
       writer.append(CODE_COMMENT_BUILD, shortName).eol();
@@ -196,46 +223,55 @@ final class SimpleBeanWriter {
   }
 
   private String indent = "     ";
+  /** Captured providers for prototype and lazy dependencies (null when not captured). */
+  private List<String> constructorProviders;
+  private List<String> fieldProviders;
+  private List<List<String>> methodProviders;
 
   private void writeCreateBean(MethodReader constructor) {
     writer.indent(indent).append(" var bean = new %s(", shortName);
     // add constructor dependencies
-    writeMethodParams("builder", constructor);
+    constructor.writeParams(writer, "builder", constructorProviders);
   }
 
   private void writeExtraInjection() {
-    if (!beanReader.prototype()) {
+    if (!beanReader.provided()) {
       writer.indent("      ").append("builder.addInjector(b -> {").eol();
       writer.indent("      ").append("  // field and method injection").eol();
     }
     injectFields();
     injectMethods();
-    if (!beanReader.prototype()) {
+    if (!beanReader.provided()) {
       writer.indent("      });").eol();
     }
   }
 
   private void injectFields() {
-    String bean = beanReader.prototype() ? "bean" : "$bean";
-    String builder = beanReader.prototype() ? "builder" : "b";
-    for (FieldReader fieldReader : beanReader.injectFields()) {
+    String bean = beanReader.provided() ? "bean" : "$bean";
+    String builder = beanReader.provided() ? "builder" : "b";
+    final List<FieldReader> fields = beanReader.injectFields();
+    for (int i = 0; i < fields.size(); i++) {
+      FieldReader fieldReader = fields.get(i);
       String fieldName = fieldReader.fieldName();
-      String getDependency = fieldReader.builderGetDependency(builder);
+      String providerVar = fieldProviders == null ? null : fieldProviders.get(i);
+      String getDependency = providerVar != null ? providerVar + ".get()" : fieldReader.builderGetDependency(builder);
       writer.indent("        ").append("%s.%s = %s;", bean, fieldName, getDependency).eol();
     }
   }
 
   private void injectMethods() {
     final var needsTry = beanReader.needsTryForMethodInjection();
-    final var bean = beanReader.prototype() ? "bean" : "$bean";
-    final var builder = beanReader.prototype() ? "builder" : "b";
+    final var bean = beanReader.provided() ? "bean" : "$bean";
+    final var builder = beanReader.provided() ? "builder" : "b";
     if (needsTry) {
       writer.indent("        try {").eol();
     }
     final var indent = needsTry ? "          " : "        ";
-    for (MethodReader methodReader : beanReader.injectMethods()) {
+    final List<MethodReader> methods = beanReader.injectMethods();
+    for (int i = 0; i < methods.size(); i++) {
+      MethodReader methodReader = methods.get(i);
       writer.indent(indent).append("%s.%s(", bean, methodReader.name());
-      writeMethodParams(builder, methodReader);
+      methodReader.writeParams(writer, builder, methodProviders == null ? null : methodProviders.get(i));
     }
     if (needsTry) {
       writer.indent("        } catch (Throwable e) {").eol();
@@ -244,17 +280,6 @@ final class SimpleBeanWriter {
     }
   }
 
-  private void writeMethodParams(String builderRef, MethodReader methodReader) {
-    List<MethodReader.MethodParam> methodParams = methodReader.params();
-    for (int i = 0; i < methodParams.size(); i++) {
-      if (i > 0) {
-        writer.append(", ");
-      }
-      methodParams.get(i).builderGetDependency(writer, builderRef);
-    }
-    writer.append(");").eol();
-  }
-
   private void writeImports() {
     beanReader.writeImports(writer);
   }
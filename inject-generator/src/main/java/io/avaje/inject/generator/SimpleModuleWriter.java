@@ -7,8 +7,10 @@ import static io.avaje.inject.generator.ProcessingContext.createMetaInfWriter;
 import java.io.IOException;
 import java.io.Writer;
 import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.StringJoiner;
 import java.util.TreeSet;
 
 import javax.lang.model.element.Modifier;
@@ -53,6 +55,8 @@ final class SimpleModuleWriter {
   private final MetaDataOrdering ordering;
 
   private Append writer;
+  private final Set<String> autoProvidesAll = new LinkedHashSet<>();
+  private final Set<String> autoRequiresAll = new LinkedHashSet<>();
 
   SimpleModuleWriter(MetaDataOrdering ordering, ScopeInfo scopeInfo) {
     this.ordering = ordering;
@@ -75,11 +79,24 @@ final class SimpleModuleWriter {
     if (scopeType != ScopeInfo.Type.CUSTOM) {
       writeServicesFile(scopeType);
     }
+    if (scopeType == ScopeInfo.Type.DEFAULT && scopeInfo.moduleOrdering()) {
+      writeModuleOrdering();
+    }
     if (!ordering.ordered().isEmpty()) {
       ProcessingContext.validateModule(fullName);
     }
   }
 
+  private void writeModuleOrdering() throws IOException {
+    final var externalModules = ProcessingContext.externalModules();
+    if (externalModules == null) {
+      logError("Unable to generate ModuleOrdering for %s as the modules on the classpath can not be detected, avaje-inject needs to be on the annotation processor classpath", fullName);
+      return;
+    }
+    final var module = scopeInfo.moduleOrderingEntry(autoProvidesAll, autoRequiresAll);
+    new ModuleOrderingWriter(modulePackage, shortName, externalModules, module).write();
+  }
+
   private void writeServicesFile(ScopeInfo.Type scopeType) {
     try {
       FileObject jfo = createMetaInfWriter(scopeType);
@@ -122,6 +139,10 @@ final class SimpleModuleWriter {
     if (!autoRequiresAspects.isEmpty()) {
       scopeInfo.buildAutoRequiresAspects(writer, autoRequiresAspects);
     }
+    autoProvidesAll.addAll(autoProvides);
+    autoProvidesAll.addAll(autoProvidesAspects);
+    autoRequiresAll.addAll(autoRequires);
+    autoRequiresAll.addAll(autoRequiresAspects);
   }
 
   private void writeClassesMethod() {
@@ -164,15 +185,41 @@ final class SimpleModuleWriter {
     writer.append("    this.builder = builder;").eol();
     writer.append("    // create beans in order based on constructor dependencies").eol();
     writer.append("    // i.e. \"provides\" followed by \"dependsOn\"").eol();
-    for (MetaData metaData : ordering.ordered()) {
-      if (!metaData.isGenerateProxy()) {
-        writer.append("    build_%s();", metaData.buildName()).eol();
+    if (scopeInfo.concurrent()) {
+      writeBuildBeans();
+    } else {
+      for (MetaData metaData : ordering.ordered()) {
+        if (!metaData.isGenerateProxy()) {
+          writer.append("    build_%s();", metaData.buildName()).eol();
+        }
       }
     }
     writer.append("  }").eol();
     writer.eol();
   }
 
+  /**
+   * Build the beans via the builder with the dependency level of each bean such
+   * that beans of the same level can be built concurrently.
+   */
+  private void writeBuildBeans() {
+    final List<MetaData> ordered = ordering.ordered();
+    final int[] levels = ordering.levels();
+    final StringJoiner beanLevels = new StringJoiner(", ");
+    final StringJoiner beans = new StringJoiner(",\n      ");
+    for (int i = 0; i < levels.length; i++) {
+      final MetaData metaData = ordered.get(i);
+      if (!metaData.isGenerateProxy()) {
+        beanLevels.add(String.valueOf(levels[i]));
+        beans.add("this::build_" + metaData.buildName());
+      }
+    }
+    if (beans.length() > 0) {
+      writer.append("    builder.buildBeans(new int[]{").append(beanLevels.toString()).append("},").eol();
+      writer.append("      ").append(beans.toString()).append(");").eol();
+    }
+  }
+
   private void writeBuildMethods() {
     for (MetaData metaData : ordering.ordered()) {
       metaData.buildMethod(writer);
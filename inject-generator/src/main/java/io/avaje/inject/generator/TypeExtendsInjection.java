@@ -1,5 +1,6 @@
 package io.avaje.inject.generator;
 
+import static io.avaje.inject.generator.APContext.logError;
 import static io.avaje.inject.generator.ProcessingContext.getImportedAspect;
 
 import javax.lang.model.element.AnnotationMirror;
@@ -62,15 +63,30 @@ final class TypeExtendsInjection {
       final var anElement = annotationMirror.getAnnotationType().asElement();
       final var aspect = AspectPrism.getInstanceOn(anElement);
       if (aspect != null) {
-        aspects.add(new AspectPair(anElement, aspect.ordering()));
+        aspects.add(new AspectPair(anElement, aspect.ordering(), fallbackMethod(annotationMirror, aspect.fallbackAttribute())));
       } else {
         getImportedAspect(anElement.asType().toString())
-            .ifPresent(p -> aspects.add(new AspectPair(anElement, p.ordering())));
+            .ifPresent(p -> aspects.add(new AspectPair(anElement, p.ordering(), fallbackMethod(annotationMirror, p.fallbackAttribute()))));
       }
     }
     return aspects;
   }
 
+  /** Return the fallback method name given by the attribute of the aspect annotation. */
+  private static String fallbackMethod(AnnotationMirror annotationMirror, String attribute) {
+    if (attribute.isEmpty()) {
+      return null;
+    }
+    for (final var entry : APContext.elements().getElementValuesWithDefaults(annotationMirror).entrySet()) {
+      if (entry.getKey().getSimpleName().contentEquals(attribute)) {
+        final String name = String.valueOf(entry.getValue().getValue());
+        return name.isEmpty() ? null : name;
+      }
+    }
+    logError(annotationMirror.getAnnotationType().asElement(), "Aspect fallbackAttribute %s is not an attribute of %s", attribute, annotationMirror.getAnnotationType());
+    return null;
+  }
+
   private void readField(Element element) {
     if (InjectPrism.isPresent(element)) {
       injectFields.add(new FieldReader(element));
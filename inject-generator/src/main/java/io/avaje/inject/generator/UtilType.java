@@ -42,6 +42,13 @@ final class UtilType {
     return type == Type.OPTIONAL || type == Type.OTHER;
   }
 
+  /**
+   * Return true if this is a dependency on a single bean (not a collection, optional or provider).
+   */
+  boolean isSingleBean() {
+    return type == Type.OTHER;
+  }
+
   boolean isCollection() {
     return type == Type.LIST || type == Type.SET;
   }
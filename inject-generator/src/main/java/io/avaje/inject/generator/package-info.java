@@ -4,6 +4,7 @@
 @GeneratePrism(Component.class)
 @GeneratePrism(Component.Import.class)
 @GeneratePrism(Prototype.class)
+@GeneratePrism(Lazy.class)
 @GeneratePrism(Scope.class)
 @GeneratePrism(Qualifier.class)
 @GeneratePrism(Named.class)
@@ -0,0 +1,31 @@
+package io.avaje.inject.generator.models.valid.aspect;
+
+import java.util.List;
+
+import io.avaje.inject.Component;
+import io.avaje.inject.generator.models.valid.Timed;
+
+/**
+ * Parameter names that match the fields and accessor parameters of the generated invocation.
+ */
+@Component
+public class ParamNames {
+
+  @Timed
+  public String fields(String result, Object[] args, String method, Object instance, int chain, long position) {
+    return result;
+  }
+
+  @Timed
+  public int specialised(int result, boolean args, List<String> instance) {
+    return result;
+  }
+
+  @Timed
+  public void none(String result, Object method) {}
+
+  @Timed
+  public long accessor(int index, long position, double result, boolean chain) {
+    return index;
+  }
+}
@@ -37,10 +37,12 @@ public class AvajeInjectPlugin implements Plugin<Project> {
     try {
       final var classLoader = classLoader(project);
       try (var moduleWriter = createFileWriter(outputDir.getPath(), "avaje-module-provides.txt");
-          var pluginWriter = createFileWriter(outputDir.getPath(), "avaje-plugin-provides.txt")) {
+          var pluginWriter = createFileWriter(outputDir.getPath(), "avaje-plugin-provides.txt");
+          var dependencyWriter = createFileWriter(outputDir.getPath(), "avaje-module-dependencies.csv")) {
 
         writeProvidedPlugins(classLoader, pluginWriter);
-        writeProvidedModules(classLoader, moduleWriter);
+        dependencyWriter.write("# module|provides|autoProvides|requires\n");
+        writeProvidedModules(classLoader, moduleWriter, dependencyWriter);
       }
     } catch (IOException e) {
       throw new GradleException("Failed to write avaje-module-provides", e);
@@ -70,10 +72,11 @@ public class AvajeInjectPlugin implements Plugin<Project> {
     }
   }
 
-  private void writeProvidedModules(ClassLoader classLoader, FileWriter moduleWriter) throws IOException {
+  private void writeProvidedModules(ClassLoader classLoader, FileWriter moduleWriter, FileWriter dependencyWriter) throws IOException {
     final Set<String> providedTypes = new HashSet<>();
     for (final io.avaje.inject.spi.Module module : ServiceLoader.load(io.avaje.inject.spi.Module.class, classLoader)) {
       System.out.println("Detected External Module: " + module.getClass().getCanonicalName());
+      writeModuleDependencies(module, dependencyWriter);
       for (final Class<?> provide : module.provides()) {
         providedTypes.add(provide.getCanonicalName());
       }
@@ -91,6 +94,28 @@ public class AvajeInjectPlugin implements Plugin<Project> {
     }
   }
 
+  /**
+   * Write the module with the types it provides and requires (used to order the modules at compile time).
+   */
+  private static void writeModuleDependencies(io.avaje.inject.spi.Module module, FileWriter dependencyWriter) throws IOException {
+    dependencyWriter.write(module.getClass().getCanonicalName());
+    writeTypes(dependencyWriter, module.provides());
+    writeTypes(dependencyWriter, module.autoProvides(), module.autoProvidesAspects());
+    writeTypes(dependencyWriter, module.requires(), module.requiresPackages(), module.autoRequires(), module.autoRequiresAspects());
+    dependencyWriter.write("\n");
+  }
+
+  private static void writeTypes(FileWriter writer, Class<?>[]... typeArrays) throws IOException {
+    final StringJoiner joiner = new StringJoiner(",");
+    for (final Class<?>[] types : typeArrays) {
+      for (final Class<?> type : types) {
+        joiner.add(type.getCanonicalName());
+      }
+    }
+    writer.write("|");
+    writer.write(joiner.toString());
+  }
+
   private static String wrapAspect(String aspect) {
     return "io.avaje.inject.aop.AspectProvider<" + aspect + ">";
   }
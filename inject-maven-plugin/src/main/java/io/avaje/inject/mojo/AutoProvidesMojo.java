@@ -22,9 +22,9 @@ import java.net.URLClassLoader;
 import java.util.*;
 
 /**
- * Plugin that generates <code>target/avaje-module-provides.txt</code> and <code>
- * target/avaje-plugin-provides.txt</code> based on the avaje-inject modules and plugins in the
- * classpath.
+ * Plugin that generates <code>target/avaje-module-provides.txt</code>, <code>
+ * target/avaje-plugin-provides.txt</code> and <code>target/avaje-module-dependencies.csv</code>
+ * based on the avaje-inject modules and plugins in the classpath.
  *
  * <p>This allows the avaje-inject-generator annotation processor to be aware of all the components
  * and plugins provided by other modules in the classpath at compile time.
@@ -49,10 +49,12 @@ public class AutoProvidesMojo extends AbstractMojo {
 
     try (var newClassLoader = createClassLoader(listUrl);
         var moduleWriter = createFileWriter("avaje-module-provides.txt");
-        var pluginWriter = createFileWriter("avaje-plugin-provides.txt")) {
+        var pluginWriter = createFileWriter("avaje-plugin-provides.txt");
+        var dependencyWriter = createFileWriter("avaje-module-dependencies.csv")) {
 
       writeProvidedPlugins(newClassLoader, pluginWriter);
-      writeProvidedModules(newClassLoader, moduleWriter);
+      dependencyWriter.write("# module|provides|autoProvides|requires\n");
+      writeProvidedModules(newClassLoader, moduleWriter, dependencyWriter);
 
     } catch (final IOException e) {
       throw new MojoExecutionException("Failed to write spi classes", e);
@@ -104,12 +106,13 @@ public class AutoProvidesMojo extends AbstractMojo {
     }
   }
 
-  private void writeProvidedModules(URLClassLoader newClassLoader, FileWriter moduleWriter) throws IOException {
+  private void writeProvidedModules(URLClassLoader newClassLoader, FileWriter moduleWriter, FileWriter dependencyWriter) throws IOException {
     final Set<String> providedTypes = new HashSet<>();
 
     final Log log = getLog();
     for (final var module : ServiceLoader.load(Module.class, newClassLoader)) {
       log.info("Detected External Module: " + module.getClass().getCanonicalName());
+      writeModuleDependencies(module, dependencyWriter);
 
       for (final Class<?> provide : module.provides()) {
         providedTypes.add(provide.getCanonicalName());
@@ -128,6 +131,28 @@ public class AutoProvidesMojo extends AbstractMojo {
     }
   }
 
+  /**
+   * Write the module with the types it provides and requires (used to order the modules at compile time).
+   */
+  private static void writeModuleDependencies(Module module, FileWriter dependencyWriter) throws IOException {
+    dependencyWriter.write(module.getClass().getCanonicalName());
+    writeTypes(dependencyWriter, module.provides());
+    writeTypes(dependencyWriter, module.autoProvides(), module.autoProvidesAspects());
+    writeTypes(dependencyWriter, module.requires(), module.requiresPackages(), module.autoRequires(), module.autoRequiresAspects());
+    dependencyWriter.write("\n");
+  }
+
+  private static void writeTypes(FileWriter writer, Class<?>[]... typeArrays) throws IOException {
+    final StringJoiner joiner = new StringJoiner(",");
+    for (final Class<?>[] types : typeArrays) {
+      for (final Class<?> type : types) {
+        joiner.add(type.getCanonicalName());
+      }
+    }
+    writer.write("|");
+    writer.write(joiner.toString());
+  }
+
   private static String wrapAspect(String aspect) {
     return "io.avaje.inject.aop.AspectProvider<" + aspect + ">";
   }
@@ -0,0 +1,59 @@
+package org.example.coffee;
+
+import io.avaje.inject.BeanScope;
+import io.avaje.inject.BeanScopeBlueprint;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class BeanScopeBlueprintTest {
+
+  @Test
+  void instantiate_newScopes() {
+    final Pump pump = new BeanScopeBuilderAddTest.TDPump();
+    final BeanScopeBlueprint blueprint = BeanScope.builder()
+      .bean(Pump.class, pump)
+      .blueprint();
+
+    try (BeanScope one = blueprint.instantiate();
+         BeanScope two = blueprint.instantiate()) {
+
+      final CoffeeMaker makerOne = one.get(CoffeeMaker.class);
+      final CoffeeMaker makerTwo = two.get(CoffeeMaker.class);
+      assertThat(makerOne).isNotSameAs(makerTwo);
+      // supplied beans are shared
+      assertThat(one.get(Pump.class)).isSameAs(pump);
+      assertThat(two.get(Pump.class)).isSameAs(pump);
+      assertThat(one.all()).hasSameSizeAs(two.all());
+    }
+  }
+
+  @Test
+  void instantiate_concurrently() throws Exception {
+    final BeanScopeBlueprint blueprint = BeanScope.builder().blueprint();
+    final ExecutorService executor = Executors.newFixedThreadPool(4);
+    try {
+      final List<CompletableFuture<Integer>> futures = new ArrayList<>();
+      for (int i = 0; i < 8; i++) {
+        futures.add(CompletableFuture.supplyAsync(() -> {
+          try (BeanScope scope = blueprint.instantiate()) {
+            return scope.all().size();
+          }
+        }, executor));
+      }
+      try (BeanScope scope = BeanScope.builder().build()) {
+        for (CompletableFuture<Integer> future : futures) {
+          assertThat(future.get()).isEqualTo(scope.all().size());
+        }
+      }
+    } finally {
+      executor.shutdown();
+    }
+  }
+}
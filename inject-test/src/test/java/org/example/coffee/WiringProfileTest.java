@@ -0,0 +1,34 @@
+package org.example.coffee;
+
+import io.avaje.inject.BeanScope;
+import io.avaje.inject.WiringProfile;
+import org.example.ExampleModule;
+import org.example.coffee.grind.AMusher;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class WiringProfileTest {
+
+  @Test
+  void profileWiring() {
+    final WiringProfile profile;
+    try (BeanScope scope = BeanScope.builder().profileWiring().build()) {
+      profile = scope.wiringProfile().orElseThrow();
+
+      assertThat(profile.phases()).containsKeys("plugins", "serviceLoader", "ordering", "modules", "postConstruct");
+      assertThat(profile.modules()).extracting(WiringProfile.Timing::name).contains(ExampleModule.class.getName());
+      assertThat(profile.beans()).extracting(WiringProfile.Timing::name)
+        .contains(CoffeeMaker.class.getName(), AMusher.class.getName());
+      assertThat(profile.report()).contains(CoffeeMaker.class.getName());
+    }
+    assertThat(profile.phases()).containsKey("preDestroy");
+  }
+
+  @Test
+  void notProfiled() {
+    try (BeanScope scope = BeanScope.builder().build()) {
+      assertThat(scope.wiringProfile()).isEmpty();
+    }
+  }
+}
@@ -0,0 +1,33 @@
+package org.example.coffee.lazy;
+
+import io.avaje.inject.Lazy;
+import io.avaje.inject.PostConstruct;
+import jakarta.inject.Inject;
+import jakarta.inject.Singleton;
+import org.example.coffee.Pump;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+@Lazy
+@Singleton
+public class LazyBean {
+
+  static final AtomicInteger created = new AtomicInteger();
+
+  final Pump pump;
+
+  @Inject
+  LazyDependency fieldInjected;
+
+  boolean initRun;
+
+  public LazyBean(Pump pump) {
+    this.pump = pump;
+    created.incrementAndGet();
+  }
+
+  @PostConstruct
+  void init() {
+    initRun = true;
+  }
+}
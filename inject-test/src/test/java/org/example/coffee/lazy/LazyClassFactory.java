@@ -0,0 +1,36 @@
+package org.example.coffee.lazy;
+
+import io.avaje.inject.Bean;
+import io.avaje.inject.Factory;
+import io.avaje.inject.Lazy;
+import io.avaje.inject.Prototype;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Class level @Lazy skips the factory methods that do not support lazy.
+ */
+@Lazy
+@Factory
+public class LazyClassFactory {
+
+  static final AtomicInteger created = new AtomicInteger();
+
+  @Bean
+  Part part() {
+    created.incrementAndGet();
+    return new Part();
+  }
+
+  @Prototype
+  @Bean
+  Piece piece() {
+    return new Piece();
+  }
+
+  public static class Part {
+  }
+
+  public static class Piece {
+  }
+}
@@ -0,0 +1,7 @@
+package org.example.coffee.lazy;
+
+import jakarta.inject.Singleton;
+
+@Singleton
+public class LazyDependency {
+}
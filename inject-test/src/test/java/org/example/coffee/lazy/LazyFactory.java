@@ -0,0 +1,34 @@
+package org.example.coffee.lazy;
+
+import io.avaje.inject.Bean;
+import io.avaje.inject.Factory;
+import io.avaje.inject.Lazy;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+@Factory
+public class LazyFactory {
+
+  static final AtomicInteger created = new AtomicInteger();
+
+  @Lazy
+  @Bean(initMethod = "init")
+  Product product(LazyDependency dependency) {
+    created.incrementAndGet();
+    return new Product(dependency);
+  }
+
+  public static class Product {
+
+    final LazyDependency dependency;
+    boolean initRun;
+
+    Product(LazyDependency dependency) {
+      this.dependency = dependency;
+    }
+
+    public void init() {
+      initRun = true;
+    }
+  }
+}
@@ -0,0 +1,56 @@
+package org.example.coffee.lazy;
+
+import io.avaje.inject.BeanScope;
+import org.example.coffee.Pump;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LazyTest {
+
+  @Test
+  void lazyBean_createdOnFirstUse() {
+    try (BeanScope scope = BeanScope.builder().build()) {
+      final int before = LazyBean.created.get();
+      final LazyUser user = scope.get(LazyUser.class);
+      assertThat(LazyBean.created).hasValue(before);
+
+      final LazyBean bean = user.lazyBean();
+      assertThat(LazyBean.created).hasValue(before + 1);
+      assertThat(bean.initRun).isTrue();
+      assertThat(bean.fieldInjected).isSameAs(scope.get(LazyDependency.class));
+      assertThat(bean.pump).isSameAs(scope.get(Pump.class));
+
+      // singleton
+      assertThat(scope.get(LazyBean.class)).isSameAs(bean);
+      assertThat(user.lazyBean()).isSameAs(bean);
+      assertThat(LazyBean.created).hasValue(before + 1);
+    }
+  }
+
+  @Test
+  void lazyFactoryMethod_createdOnFirstUse() {
+    try (BeanScope scope = BeanScope.builder().build()) {
+      final int before = LazyFactory.created.get();
+      final LazyFactory.Product product = scope.get(LazyFactory.Product.class);
+      assertThat(LazyFactory.created).hasValue(before + 1);
+      assertThat(product.initRun).isTrue();
+      assertThat(product.dependency).isSameAs(scope.get(LazyDependency.class));
+      assertThat(scope.get(LazyFactory.Product.class)).isSameAs(product);
+      assertThat(LazyFactory.created).hasValue(before + 1);
+    }
+  }
+
+  @Test
+  void lazyFactoryClass_createdOnFirstUse_prototypeNotLazy() {
+    try (BeanScope scope = BeanScope.builder().build()) {
+      final int before = LazyClassFactory.created.get();
+      assertThat(scope.get(LazyClassFactory.Piece.class)).isNotSameAs(scope.get(LazyClassFactory.Piece.class));
+      assertThat(LazyClassFactory.created).hasValue(before);
+
+      final LazyClassFactory.Part part = scope.get(LazyClassFactory.Part.class);
+      assertThat(LazyClassFactory.created).hasValue(before + 1);
+      assertThat(scope.get(LazyClassFactory.Part.class)).isSameAs(part);
+    }
+  }
+}
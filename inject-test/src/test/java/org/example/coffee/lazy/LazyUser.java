@@ -0,0 +1,18 @@
+package org.example.coffee.lazy;
+
+import jakarta.inject.Provider;
+import jakarta.inject.Singleton;
+
+@Singleton
+public class LazyUser {
+
+  final Provider<LazyBean> lazyBean;
+
+  public LazyUser(Provider<LazyBean> lazyBean) {
+    this.lazyBean = lazyBean;
+  }
+
+  LazyBean lazyBean() {
+    return lazyBean.get();
+  }
+}
@@ -15,6 +15,12 @@ public class PriorityTest {
     assertExpectedOrder(sorted);
   }
 
+  @Test
+  void listByPriority_cached() {
+    final List<BaseIface> sorted = ApplicationScope.listByPriority(BaseIface.class);
+    assertThat(ApplicationScope.listByPriority(BaseIface.class)).isSameAs(sorted);
+  }
+
   private void assertExpectedOrder(List<BaseIface> sorted) {
     assertThat(sorted.get(0)).isInstanceOf(CBasei.class);
     assertThat(sorted.get(1)).isInstanceOf(BBasei.class);
@@ -1,5 +1,6 @@
 package org.example.coffee.prototype;
 
+import io.avaje.inject.BeanHandle;
 import io.avaje.inject.BeanScope;
 import org.junit.jupiter.api.Test;
 
@@ -26,4 +27,15 @@ class MyProtoTest {
     }
   }
 
+  @Test
+  void handle_prototype_differentInstance() {
+    try (BeanScope scope = BeanScope.builder()
+      .build()) {
+
+      BeanHandle<MyProto> handle = scope.handle(MyProto.class, null);
+      assertThat(handle.get()).isNotSameAs(handle.get());
+      assertThat(handle.get().pump()).isSameAs(scope.get(MyProto.class).pump());
+    }
+  }
+
 }
@@ -0,0 +1,31 @@
+package io.avaje.inject;
+
+import jakarta.inject.Provider;
+
+/**
+ * A handle to a bean that has been resolved once and can then be obtained repeatedly
+ * without looking it up again.
+ * <p>
+ * Use this for code that can not use dependency injection and looks up the same bean
+ * repeatedly (dynamic dispatch, plugin hosts etc). For prototype scoped beans each
+ * call to {@link #get()} returns a new instance.
+ *
+ * <pre>{@code
+ *
+ *   BeanHandle<Heater> heater = beanScope.handle(Heater.class, "electric");
+ *   ...
+ *   heater.get().heat();
+ *
+ * }</pre>
+ *
+ * @see BeanScope#handle(java.lang.reflect.Type, String)
+ */
+@FunctionalInterface
+public interface BeanHandle<T> extends Provider<T> {
+
+  /**
+   * Return the bean.
+   */
+  @Override
+  T get();
+}
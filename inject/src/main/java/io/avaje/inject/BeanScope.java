@@ -148,6 +148,32 @@ public interface BeanScope extends AutoCloseable {
    */
   <T> T get(Type type, @Nullable String name);
 
+  /**
+   * Return a handle to a single bean given the type and name.
+   * <p>
+   * The bean is resolved once when the handle is created such that obtaining the bean
+   * from the handle does not look it up again.
+   *
+   * <pre>{@code
+   *
+   *   BeanHandle<Heater> heater = beanScope.handle(Heater.class, "electric");
+   *   ...
+   *   heater.get().heat();
+   *
+   * }</pre>
+   * <p>
+   * The default implementation obtains the bean via {@link #get(Type, String)} when the
+   * handle is created and returns that bean from the handle.
+   *
+   * @param type The bean type or generic type
+   * @param name the name qualifier of a specific bean
+   * @throws java.util.NoSuchElementException When no matching bean is found
+   */
+  default <T> BeanHandle<T> handle(Type type, @Nullable String name) {
+    final T bean = get(type, name);
+    return () -> bean;
+  }
+
   /**
    * Optionally return a single bean given the type and empty if it is not found.
    *
@@ -174,6 +200,9 @@ public interface BeanScope extends AutoCloseable {
    *   List<Object> controllers = beanScope.listByAnnotation(Controller.class);
    *
    * }</pre>
+   * <p>
+   * A new (modifiable) list is returned on each call, with the matching beans determined
+   * once after the scope is built.
    *
    * @param annotation An annotation class.
    */
@@ -189,6 +218,10 @@ public interface BeanScope extends AutoCloseable {
    *   List<WebRoute> routes = beanScope.list(WebRoute.class);
    *
    * }</pre>
+   * <p>
+   * The returned list should be treated as read only. When none of the matching beans
+   * are prototype scoped the same unmodifiable list is returned on each call, so callers
+   * that previously modified the returned list should copy it first.
    *
    * @param type The type of beans to return.
    */
@@ -196,11 +229,19 @@ public interface BeanScope extends AutoCloseable {
 
   /**
    * Return the list of beans that implement the given type.
+   * <p>
+   * The returned list should be treated as read only. When none of the matching beans
+   * are prototype scoped the same unmodifiable list is returned on each call.
    */
   <T> List<T> list(Type type);
 
   /**
    * Return the list of beans that implement the interface sorting by priority.
+   * <p>
+   * The returned list should be treated as read only. When none of the matching beans
+   * are prototype scoped the same unmodifiable sorted list is returned on each call, so
+   * callers that previously sorted or otherwise modified the returned list should copy
+   * it first.
    */
   <T> List<T> listByPriority(Class<T> type);
 
@@ -209,6 +250,11 @@ public interface BeanScope extends AutoCloseable {
    * <p>
    * The priority annotation will typically be either <code>javax.annotation.Priority</code>
    * or <code>jakarta.annotation.Priority</code>.
+   * <p>
+   * The returned list should be treated as read only. When none of the matching beans
+   * are prototype scoped the same unmodifiable sorted list is returned on each call, so
+   * callers that previously sorted or otherwise modified the returned list should copy
+   * it first.
    *
    * @param type     The interface type of the beans to return
    * @param priority The priority annotation used to sort the beans
@@ -219,6 +265,10 @@ public interface BeanScope extends AutoCloseable {
    * Return the beans for this type mapped by their qualifier name.
    * <p>
    * Beans with no qualifier name get a generated unique key to use instead.
+   * <p>
+   * The returned map should be treated as read only. When none of the matching beans
+   * are prototype scoped the same unmodifiable map is returned on each call, so callers
+   * that previously modified the returned map should copy it first.
    */
   <T> Map<String, T> map(Type type);
 
@@ -241,6 +291,27 @@ public interface BeanScope extends AutoCloseable {
    */
   boolean contains(String type);
 
+  /**
+   * Return the wiring profile when the scope was built with {@link BeanScopeBuilder#profileWiring()}.
+   * <p>
+   * The PreDestroy times are included once the scope has been closed.
+   */
+  default Optional<WiringProfile> wiringProfile() {
+    return Optional.empty();
+  }
+
+  /**
+   * Return the beans whose PreDestroy methods did not complete within the timeouts of
+   * {@link BeanScopeBuilder#parallelClose(java.time.Duration, java.time.Duration)} when
+   * the scope was closed (including the beans not closed once the overall timeout elapsed).
+   * <p>
+   * Each bean is described by its type and name. This is empty unless the scope has been
+   * closed with parallel close and some beans overran.
+   */
+  default List<String> closeOverruns() {
+    return List.of();
+  }
+
   /**
    * Close the scope firing any <code>@PreDestroy</code> lifecycle methods.
    */
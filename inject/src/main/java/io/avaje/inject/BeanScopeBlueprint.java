@@ -0,0 +1,36 @@
+package io.avaje.inject;
+
+import io.avaje.lang.NonNullApi;
+
+/**
+ * An immutable template for building BeanScopes of the same shape.
+ * <p>
+ * Created via {@link BeanScopeBuilder#blueprint()} with the plugins applied and modules
+ * ordered once. Each call to {@link #instantiate()} only creates the beans and runs their
+ * lifecycle methods.
+ *
+ * <pre>{@code
+ *
+ *   BeanScopeBlueprint blueprint = BeanScope.builder().blueprint();
+ *
+ *   for (Tenant tenant : tenants) {
+ *     try (BeanScope scope = blueprint.instantiate()) {
+ *       scope.get(TenantJob.class).run(tenant);
+ *     }
+ *   }
+ *
+ * }</pre>
+ */
+@NonNullApi
+public interface BeanScopeBlueprint {
+
+  /**
+   * Build and return a new bean scope.
+   * <p>
+   * This is safe to call concurrently. When a module can not be created per scope
+   * (it has no public no-arg constructor) the scopes are built one at a time.
+   *
+   * @return The new BeanScope
+   */
+  BeanScope instantiate();
+}
@@ -1,11 +1,14 @@
 package io.avaje.inject;
 
 import io.avaje.inject.spi.Module;
+import io.avaje.inject.spi.ModuleOrdering;
 import io.avaje.inject.spi.PropertyRequiresPlugin;
 import io.avaje.lang.NonNullApi;
 import io.avaje.lang.Nullable;
 
 import java.lang.reflect.Type;
+import java.time.Duration;
+import java.util.concurrent.Executor;
 import java.util.function.Consumer;
 import java.util.function.Supplier;
 
@@ -79,6 +82,30 @@ public interface BeanScopeBuilder {
    */
   BeanScopeBuilder modules(Module... modules);
 
+  /**
+   * Use the modules of the given ordering in their build order.
+   * <p>
+   * The ordering is typically generated at compile time by adding
+   * {@code @InjectModule(moduleOrdering = true)} to the application module. This avoids
+   * service loading the modules and ordering them by their requires and provides
+   * each time a bean scope is built.
+   * <p>
+   * The ordering only contains the modules detected at compile time so this is intended
+   * for application entry points rather than tests which have additional modules.
+   *
+   * <pre>{@code
+   *
+   *   BeanScope scope = BeanScope.builder()
+   *     .moduleOrdering(new MyappModuleOrdering())
+   *     .build());
+   *
+   * }</pre>
+   *
+   * @param ordering The modules in build order
+   * @return This BeanScopeBuilder
+   */
+  BeanScopeBuilder moduleOrdering(ModuleOrdering ordering);
+
   /**
    * Set the PropertyPlugin used for this scope. This is serviceloaded automatically of not set
    *
@@ -246,6 +273,111 @@ public interface BeanScopeBuilder {
    */
   BeanScopeBuilder addPreDestroy(AutoCloseable preDestroyHook, int priority);
 
+  /**
+   * Build independent modules concurrently using virtual threads (when available).
+   * <p>
+   * Modules are built once the modules they depend on (via requires and provides)
+   * have been built. This is useful when modules are slow to wire, for example when
+   * beans open connection pools or warm caches on construction.
+   * <p>
+   * While building, a module only sees the beans of the modules it declares it requires.
+   * A module that declares no requires (including autoRequires) is built after all the
+   * modules before it, as when built sequentially. Declare the requires of such modules
+   * for them to be built concurrently.
+   * <p>
+   * Modules generated with {@code @InjectModule(concurrent = true)} additionally build
+   * their beans concurrently by dependency level.
+   * <p>
+   * The resulting BeanScope is the same as when the modules are built sequentially.
+   *
+   * <pre>{@code
+   *
+   *   BeanScope scope = BeanScope.builder()
+   *     .parallel()
+   *     .build();
+   *
+   * }</pre>
+   */
+  BeanScopeBuilder parallel();
+
+  /**
+   * Build independent modules concurrently using the given executor.
+   *
+   * @param executor The executor used to build the modules
+   * @see #parallel()
+   */
+  BeanScopeBuilder parallel(Executor executor);
+
+  /**
+   * Run the PostConstruct methods of beans concurrently waiting up to the given timeout
+   * for them to complete.
+   * <p>
+   * The PostConstruct methods of a bean run after those of the beans it depends on. This
+   * is useful when PostConstruct methods perform I/O such as preloading reference data.
+   * <p>
+   * The executor given via {@link #parallel(Executor)} is used when specified and otherwise
+   * virtual threads (when available). When PostConstruct methods fail, dependent beans are
+   * skipped and the failures are thrown (suppressed onto a single exception when there is
+   * more than one).
+   *
+   * <pre>{@code
+   *
+   *   BeanScope scope = BeanScope.builder()
+   *     .parallelPostConstruct(Duration.ofSeconds(30))
+   *     .build();
+   *
+   * }</pre>
+   *
+   * @param timeout The maximum time to wait for the PostConstruct methods of the beans
+   */
+  BeanScopeBuilder parallelPostConstruct(Duration timeout);
+
+  /**
+   * Close beans of the same PreDestroy priority concurrently when the scope is closed.
+   * <p>
+   * Beans are closed in priority order as with a sequential close, with the closeables of
+   * each priority closed concurrently. Closeables that do not complete within the band
+   * timeout are logged as overrunning and interrupted, and the next priority is closed once
+   * they have stopped. Once the overall timeout has elapsed the remaining closeables are
+   * logged and not closed. The beans that overran are available via
+   * {@link BeanScope#closeOverruns()} once the scope is closed.
+   * <p>
+   * This is useful to stay within a container termination grace period when some beans
+   * are slow to close (for example draining queues or flushing buffers).
+   *
+   * <pre>{@code
+   *
+   *   BeanScope scope = BeanScope.builder()
+   *     .parallelClose(Duration.ofSeconds(5), Duration.ofSeconds(20))
+   *     .build();
+   *
+   * }</pre>
+   *
+   * @param bandTimeout The maximum time to wait for the closeables of a priority
+   * @param timeout     The maximum time to wait for all the closeables
+   */
+  BeanScopeBuilder parallelClose(Duration bandTimeout, Duration timeout);
+
+  /**
+   * Record the time spent wiring each module and bean.
+   * <p>
+   * The construct, PostConstruct and PreDestroy times of each module and bean along with
+   * the time spent applying plugins, service loading and ordering the modules are available
+   * via {@link BeanScope#wiringProfile()}. This is useful to find the beans that dominate
+   * startup time. The report of the top beans is also logged at DEBUG level.
+   *
+   * <pre>{@code
+   *
+   *   BeanScope scope = BeanScope.builder()
+   *     .profileWiring()
+   *     .build();
+   *
+   *   System.out.println(scope.wiringProfile().orElseThrow().report(20));
+   *
+   * }</pre>
+   */
+  BeanScopeBuilder profileWiring();
+
   /**
    * Set the ClassLoader to use when loading modules.
    *
@@ -298,6 +430,33 @@ public interface BeanScopeBuilder {
    */
   BeanScope build();
 
+  /**
+   * Return a blueprint that builds BeanScopes of the same shape.
+   * <p>
+   * The plugins are applied and the modules are loaded and ordered once such that
+   * {@link BeanScopeBlueprint#instantiate()} only creates the beans and runs their
+   * lifecycle methods. Use this when building many short-lived scopes (e.g. per tenant
+   * or per job run).
+   * <p>
+   * Supplied beans are shared by the scopes built from the blueprint. Changes to this
+   * builder after creating the blueprint do not change the blueprint.
+   *
+   * <pre>{@code
+   *
+   *   BeanScopeBlueprint blueprint = BeanScope.builder()
+   *     .bean(Config.class, config)
+   *     .blueprint();
+   *
+   *   try (BeanScope scope = blueprint.instantiate()) {
+   *     ...
+   *   }
+   *
+   * }</pre>
+   *
+   * @return The blueprint used to build BeanScopes
+   */
+  BeanScopeBlueprint blueprint();
+
   /**
    * Extends the building with testing specific support for mocks and spies.
    */
@@ -7,10 +7,17 @@ import io.avaje.lang.NonNullApi;
 import io.avaje.lang.Nullable;
 import jakarta.inject.Provider;
 
+import java.lang.reflect.Constructor;
 import java.lang.reflect.Type;
+import java.time.Duration;
 import java.util.*;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.locks.ReentrantLock;
 import java.util.function.Consumer;
 import java.util.function.Supplier;
+import java.util.stream.IntStream;
 
 import static java.lang.System.Logger.Level.DEBUG;
 import static java.lang.System.Logger.Level.INFO;
@@ -36,6 +43,12 @@ final class DBeanScopeBuilder implements BeanScopeBuilder.ForTesting {
   private ClassLoader classLoader;
   private PropertyRequiresPlugin propertyRequiresPlugin;
   private Set<String> profiles;
+  private boolean parallel;
+  private Executor executor;
+  private Duration postConstructTimeout;
+  private Duration closeBandTimeout;
+  private Duration closeTimeout;
+  private boolean profileWiring;
 
   /** Create a BeanScopeBuilder to ultimately load and return a new BeanScope. */
   DBeanScopeBuilder() {}
@@ -57,6 +70,13 @@ final class DBeanScopeBuilder implements BeanScopeBuilder.ForTesting {
     return this;
   }
 
+  @Override
+  public BeanScopeBuilder moduleOrdering(ModuleOrdering ordering) {
+    // explicit modules are built in the given order
+    this.includeModules.addAll(ordering.modules());
+    return this;
+  }
+
   @Override
   public void propertyPlugin(PropertyRequiresPlugin propertyRequiresPlugin) {
     this.propertyRequiresPlugin = propertyRequiresPlugin;
@@ -137,6 +157,38 @@ final class DBeanScopeBuilder implements BeanScopeBuilder.ForTesting {
     return this;
   }
 
+  @Override
+  public BeanScopeBuilder parallel() {
+    this.parallel = true;
+    return this;
+  }
+
+  @Override
+  public BeanScopeBuilder parallel(Executor executor) {
+    this.parallel = true;
+    this.executor = executor;
+    return this;
+  }
+
+  @Override
+  public BeanScopeBuilder parallelPostConstruct(Duration timeout) {
+    this.postConstructTimeout = Objects.requireNonNull(timeout);
+    return this;
+  }
+
+  @Override
+  public BeanScopeBuilder parallelClose(Duration bandTimeout, Duration timeout) {
+    this.closeBandTimeout = Objects.requireNonNull(bandTimeout);
+    this.closeTimeout = Objects.requireNonNull(timeout);
+    return this;
+  }
+
+  @Override
+  public BeanScopeBuilder profileWiring() {
+    this.profileWiring = true;
+    return this;
+  }
+
   @Override
   public BeanScopeBuilder classLoader(ClassLoader classLoader) {
     this.classLoader = classLoader;
@@ -236,6 +288,23 @@ final class DBeanScopeBuilder implements BeanScopeBuilder.ForTesting {
   @Override
   public BeanScope build() {
     final var start = System.currentTimeMillis();
+    return prepare(false).instantiate(start);
+  }
+
+  @Override
+  public BeanScopeBlueprint blueprint() {
+    return prepare(true);
+  }
+
+  /**
+   * Apply the plugins and order the modules returning the blueprint used to build the scope.
+   *
+   * @param reusable When true the blueprint creates new module instances for each scope
+   */
+  private Blueprint prepare(boolean reusable) {
+    // the time of the phases is cheap to record and used when profiling the wiring
+    final Map<String, Duration> phases = new LinkedHashMap<>();
+    long mark = System.nanoTime();
     // load and apply plugins first
     initClassLoader();
     if (propertyRequiresPlugin == null) {
@@ -243,13 +312,16 @@ final class DBeanScopeBuilder implements BeanScopeBuilder.ForTesting {
     }
 
     ServiceLoader.load(Plugin.class, classLoader).forEach(plugin -> plugin.apply(this));
+    mark = phase(phases, "plugins", mark);
     // sort factories by dependsOn
     final FactoryOrder factoryOrder = new FactoryOrder(parent, includeModules, !suppliedBeans.isEmpty());
     if (factoryOrder.isEmpty()) {
       ServiceLoader.load(Module.class, classLoader).forEach(factoryOrder::add);
+      mark = phase(phases, "serviceLoader", mark);
     }
 
     final Set<String> moduleNames = factoryOrder.orderFactories();
+    phase(phases, "ordering", mark);
     if (moduleNames.isEmpty()) {
       throw new IllegalStateException(
           "Could not find any avaje modules."
@@ -261,18 +333,171 @@ final class DBeanScopeBuilder implements BeanScopeBuilder.ForTesting {
     final var level = propertyRequiresPlugin.contains("printModules") ? INFO : DEBUG;
     initProfiles();
     log.log(level, "building with avaje modules {0} profiles {1}", moduleNames, profiles);
+    return new Blueprint(this, factoryOrder, reusable, phases);
+  }
+
+  /**
+   * Add the time since the mark to the phase returning the new mark.
+   */
+  private static long phase(Map<String, Duration> phases, String phase, long mark) {
+    final long now = System.nanoTime();
+    phases.merge(phase, Duration.ofNanos(now - mark), Duration::plus);
+    return now;
+  }
+
+  /**
+   * The plugins applied and modules ordered such that building a scope only builds the beans.
+   */
+  private static final class Blueprint implements BeanScopeBlueprint {
+
+    private final List<SuppliedBean> suppliedBeans;
+    @SuppressWarnings("rawtypes")
+    private final List<EnrichBean> enrichBeans;
+    private final List<Runnable> postConstructList;
+    private final List<Consumer<BeanScope>> postConstructConsumerList;
+    private final List<ClosePair> preDestroyList;
+    private final Set<String> profiles;
+    private final PropertyRequiresPlugin propertyRequiresPlugin;
+    private final BeanScope parent;
+    private final boolean parentOverride;
+    private final boolean shutdownHook;
+    private final boolean parallel;
+    private final Executor executor;
+    private final Duration postConstructTimeout;
+    private final Duration closeBandTimeout;
+    private final Duration closeTimeout;
+    private final List<Module> modules;
+    private final int[][] dependsOn;
+    /** Constructors to create the modules for each scope (null to use the modules). */
+    private final List<Constructor<? extends Module>> constructors;
+    /** Lock when the modules are shared by the scopes being built. */
+    private final ReentrantLock lock;
+    /** The time of the phases prior to building the modules (null when not profiling). */
+    private final Map<String, Duration> phases;
+
+    Blueprint(DBeanScopeBuilder builder, FactoryOrder factoryOrder, boolean reusable, Map<String, Duration> phases) {
+      this.suppliedBeans = List.copyOf(builder.suppliedBeans);
+      this.enrichBeans = List.copyOf(builder.enrichBeans);
+      this.postConstructList = List.copyOf(builder.postConstructList);
+      this.postConstructConsumerList = List.copyOf(builder.postConstructConsumerList);
+      this.preDestroyList = List.copyOf(builder.preDestroyList);
+      this.profiles = builder.profiles;
+      this.propertyRequiresPlugin = builder.propertyRequiresPlugin;
+      this.parent = builder.parent;
+      this.parentOverride = builder.parentOverride;
+      this.shutdownHook = builder.shutdownHook;
+      this.parallel = builder.parallel;
+      this.executor = builder.executor;
+      this.postConstructTimeout = builder.postConstructTimeout;
+      this.closeBandTimeout = builder.closeBandTimeout;
+      this.closeTimeout = builder.closeTimeout;
+      this.modules = List.copyOf(factoryOrder.factories());
+      final long mark = System.nanoTime();
+      this.dependsOn = parallel ? factoryOrder.dependsOn() : null;
+      phase(phases, "ordering", mark);
+      this.phases = builder.profileWiring ? phases : null;
+      this.constructors = reusable ? constructors(modules) : null;
+      this.lock = reusable && constructors == null ? new ReentrantLock() : null;
+    }
 
-    final Builder builder = Builder.newBuilder(profiles, propertyRequiresPlugin, suppliedBeans, enrichBeans, parent, parentOverride);
-    for (final Module factory : factoryOrder.factories()) {
-      factory.build(builder);
+    /**
+     * Return the no-arg constructors of the modules or null when a module does not have one.
+     */
+    @SuppressWarnings("unchecked")
+    private static List<Constructor<? extends Module>> constructors(List<Module> modules) {
+      final List<Constructor<? extends Module>> constructors = new ArrayList<>(modules.size());
+      for (final Module module : modules) {
+        try {
+          constructors.add((Constructor<? extends Module>) module.getClass().getConstructor());
+        } catch (NoSuchMethodException | SecurityException e) {
+          log.log(DEBUG, "module {0} has no public no-arg constructor, building scopes sequentially", module.getClass().getName());
+          return null;
+        }
+      }
+      return constructors;
     }
 
-    postConstructList.forEach(builder::addPostConstruct);
-    postConstructConsumerList.forEach(builder::addPostConstruct);
-    for (ClosePair closePair : preDestroyList) {
-      builder.addPreDestroy(closePair.closeable(), closePair.priority());
+    @Override
+    public BeanScope instantiate() {
+      final var start = System.currentTimeMillis();
+      if (lock == null) {
+        return instantiate(start);
+      }
+      // modules hold the builder while building
+      lock.lock();
+      try {
+        return instantiate(start);
+      } finally {
+        lock.unlock();
+      }
+    }
+
+    private List<Module> modules() {
+      if (constructors == null) {
+        return modules;
+      }
+      final List<Module> newModules = new ArrayList<>(constructors.size());
+      for (final Constructor<? extends Module> constructor : constructors) {
+        try {
+          newModules.add(constructor.newInstance());
+        } catch (ReflectiveOperationException e) {
+          throw new IllegalStateException("Failed to create module " + constructor.getDeclaringClass().getName(), e);
+        }
+      }
+      return newModules;
+    }
+
+    BeanScope instantiate(long start) {
+      final List<Module> factories = modules();
+      final Builder builder = Builder.newBuilder(profiles, propertyRequiresPlugin, suppliedBeans, enrichBeans, parent, parentOverride);
+      final boolean concurrent = parallel || postConstructTimeout != null;
+      final ExecutorService defaultExecutor = concurrent && executor == null ? newExecutor() : null;
+      final Executor buildExecutor = executor != null ? executor : defaultExecutor;
+      try {
+        if (phases != null) {
+          builder.profileWiring(phases);
+        }
+        if (postConstructTimeout != null) {
+          builder.parallelPostConstruct(buildExecutor, postConstructTimeout);
+          // added before any beans such that these run after the PostConstruct methods of the beans
+          addPostConstruct(builder);
+        }
+        if (parallel) {
+          builder.buildModules(factories, dependsOn, buildExecutor);
+        } else {
+          builder.buildModules(factories);
+        }
+        if (postConstructTimeout == null) {
+          addPostConstruct(builder);
+        }
+        for (ClosePair closePair : preDestroyList) {
+          builder.addPreDestroy(closePair.closeable(), closePair.priority());
+        }
+        if (closeTimeout != null) {
+          builder.parallelClose(DBeanScopeBuilder::newExecutor, closeBandTimeout, closeTimeout);
+        }
+        return builder.build(shutdownHook, start);
+      } finally {
+        if (defaultExecutor != null) {
+          defaultExecutor.shutdown();
+        }
+      }
+    }
+
+    private void addPostConstruct(Builder builder) {
+      postConstructList.forEach(builder::addPostConstruct);
+      postConstructConsumerList.forEach(builder::addPostConstruct);
+    }
+  }
+
+  /** Return a virtual thread executor when available. */
+  private static ExecutorService newExecutor() {
+    try {
+      return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+    } catch (ReflectiveOperationException e) {
+      log.log(DEBUG, "virtual threads not available, using platform threads");
+      return Executors.newCachedThreadPool();
     }
-    return builder.build(shutdownHook, start);
   }
 
   /** Return the type that we map the supplied bean to. */
@@ -443,6 +668,75 @@ final class DBeanScopeBuilder implements BeanScopeBuilder.ForTesting {
     boolean isEmpty() {
       return factories.isEmpty();
     }
+
+    /**
+     * Return for each factory (in build order) the indexes of the earlier factories
+     * that provide what it requires.
+     * <p>
+     * A factory that declares no requires can use the beans of any earlier factory
+     * (as when built sequentially) so depends on all the earlier factories.
+     */
+    int[][] dependsOn() {
+      final Map<String, List<Integer>> provides = new HashMap<>();
+      for (int i = 0; i < factories.size(); i++) {
+        final Module module = factories.get(i);
+        addProvides(provides, i, module.getClass().getTypeName());
+        addProvides(provides, i, module.provides());
+        addProvides(provides, i, module.autoProvides());
+        addProvides(provides, i, module.autoProvidesAspects());
+      }
+      final int[][] dependsOn = new int[factories.size()][];
+      for (int i = 0; i < factories.size(); i++) {
+        final Module module = factories.get(i);
+        if (!declaresRequires(module)) {
+          dependsOn[i] = IntStream.range(0, i).toArray();
+          continue;
+        }
+        final Set<Integer> dependencies = new TreeSet<>();
+        addDependencies(dependencies, provides, i, module.requires());
+        addDependencies(dependencies, provides, i, module.requiresPackages());
+        addDependencies(dependencies, provides, i, module.autoRequires());
+        addDependencies(dependencies, provides, i, module.autoRequiresAspects());
+        dependsOn[i] = dependencies.stream().mapToInt(Integer::intValue).toArray();
+      }
+      return dependsOn;
+    }
+
+    private static boolean declaresRequires(Module module) {
+      return isNotEmpty(module.requires())
+        || isNotEmpty(module.requiresPackages())
+        || isNotEmpty(module.autoRequires())
+        || isNotEmpty(module.autoRequiresAspects());
+    }
+
+    private static boolean isNotEmpty(@Nullable Class<?>[] types) {
+      return types != null && types.length > 0;
+    }
+
+    private static void addProvides(Map<String, List<Integer>> provides, int index, @Nullable Class<?>[] types) {
+      if (types != null) {
+        for (final Class<?> type : types) {
+          addProvides(provides, index, type.getTypeName());
+        }
+      }
+    }
+
+    private static void addProvides(Map<String, List<Integer>> provides, int index, String type) {
+      provides.computeIfAbsent(type, s -> new ArrayList<>()).add(index);
+    }
+
+    private static void addDependencies(Set<Integer> dependencies, Map<String, List<Integer>> provides, int index, @Nullable Class<?>[] requires) {
+      if (requires != null) {
+        for (final Class<?> type : requires) {
+          for (final Integer provider : provides.getOrDefault(type.getTypeName(), List.of())) {
+            // only earlier modules as per the sequential build order
+            if (provider < index) {
+              dependencies.add(provider);
+            }
+          }
+        }
+      }
+    }
   }
 
   /** Wrapper on Factory holding the pushed state. */
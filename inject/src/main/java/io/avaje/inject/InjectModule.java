@@ -91,6 +91,43 @@ public @interface InjectModule {
    */
   Class<?>[] requiresPackages() default {};
 
+  /**
+   * Set to true to generate the dependency level of each bean such that beans of the same
+   * level (that do not depend on each other) are built concurrently.
+   * <p>
+   * The beans are only built concurrently when the BeanScope is built using
+   * {@code BeanScopeBuilder.parallel()}. The registration order of the beans (and hence
+   * the order of beans returned by {@code list()}) is the same as a sequential build.
+   * <p>
+   * Use this for modules with beans that are expensive to construct (e.g. creating connection
+   * pools, loading schemas, warming caches).
+   */
+  boolean concurrent() default false;
+
+  /**
+   * Set to true to make the singleton beans of the module lazy such that they are created
+   * on first use rather than when the BeanScope is built.
+   * <p>
+   * This is the same as adding {@link Lazy} to each of the beans and factory methods of the
+   * module. Beans that have PreDestroy lifecycle methods (or are AutoCloseable) and request
+   * scoped beans are still created when the BeanScope is built.
+   * <p>
+   * Use this for modules with beans that are only used by some entry points (e.g. admin
+   * endpoints, report generators) to reduce startup time and heap.
+   */
+  boolean lazy() default false;
+
+  /**
+   * Set to true to generate a {@code ModuleOrdering} with this module and the modules detected
+   * on the classpath at compile time in build order.
+   * <p>
+   * Use this on the application module and build the BeanScope using
+   * {@code BeanScopeBuilder.moduleOrdering()} to skip service loading and ordering the modules
+   * at startup. The modules are detected via the annotation processor classpath so
+   * avaje-inject needs to be on that classpath.
+   */
+  boolean moduleOrdering() default false;
+
   /**
    * Internal use only - identifies the custom scope annotation associated to this module.
    * <p>
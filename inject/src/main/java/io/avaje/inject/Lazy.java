@@ -0,0 +1,31 @@
+package io.avaje.inject;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Specify a singleton bean that is created on first use rather than when the scope is built.
+ * <p>
+ * The bean is registered as a provider and created (with its PostConstruct method invoked)
+ * the first time it is requested or wired. A bean that is injected directly into another
+ * singleton is created when that singleton is created, use {@code Provider<T>} injection
+ * to defer creation to the point of use.
+ * <p>
+ * Lazy beans do not support PreDestroy lifecycle methods.
+ *
+ * <pre>{@code
+ *
+ * @Lazy
+ * @Singleton
+ * class ReportGenerator {
+ *
+ *   ...
+ * }
+ * }</pre>
+ */
+@Target({ElementType.TYPE, ElementType.METHOD})
+@Retention(RetentionPolicy.RUNTIME)
+public @interface Lazy {
+}
@@ -0,0 +1,89 @@
+package io.avaje.inject;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The time spent wiring a BeanScope by phase, module and bean.
+ * <p>
+ * This is recorded when the scope is built with {@link BeanScopeBuilder#profileWiring()}
+ * and is used to find the modules and beans that dominate startup time.
+ *
+ * <pre>{@code
+ *
+ *   try (BeanScope scope = BeanScope.builder().profileWiring().build()) {
+ *
+ *     scope.wiringProfile().ifPresent(profile -> System.out.println(profile.report(20)));
+ *   }
+ *
+ * }</pre>
+ */
+public interface WiringProfile {
+
+  /**
+   * The time spent on a module or bean.
+   */
+  interface Timing {
+
+    /**
+     * Return the module or bean name (the bean type with the qualifier name if it has one).
+     */
+    String name();
+
+    /**
+     * Return the time spent constructing the bean (or building the module).
+     * <p>
+     * For a bean this includes resolving its dependencies and running its field and
+     * method injection.
+     */
+    Duration construct();
+
+    /**
+     * Return the time spent running the PostConstruct methods.
+     */
+    Duration postConstruct();
+
+    /**
+     * Return the time spent running the PreDestroy methods (zero until the scope is closed).
+     */
+    Duration preDestroy();
+
+    /**
+     * Return the total of the construct, PostConstruct and PreDestroy times.
+     */
+    Duration total();
+  }
+
+  /**
+   * Return the time spent by phase in order.
+   * <p>
+   * The phases are {@code plugins}, {@code serviceLoader}, {@code ordering} (of the modules),
+   * {@code modules} (building the beans), {@code injection} (field and method injection),
+   * {@code postConstruct} and once closed {@code preDestroy}. Phases that do not occur, such
+   * as service loading when the modules are explicitly provided, are not included.
+   */
+  Map<String, Duration> phases();
+
+  /**
+   * Return the module timings sorted by total time descending.
+   */
+  List<Timing> modules();
+
+  /**
+   * Return the bean timings sorted by total time descending.
+   */
+  List<Timing> beans();
+
+  /**
+   * Return a text report of the phases, modules and beans sorted by total time descending.
+   */
+  String report();
+
+  /**
+   * Return a text report of the phases, modules and the top beans by total time descending.
+   *
+   * @param maxBeans The maximum number of beans to include in the report
+   */
+  String report(int maxBeans);
+}
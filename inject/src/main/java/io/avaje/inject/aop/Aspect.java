@@ -32,6 +32,28 @@ public @interface Aspect {
    */
   int ordering() default 1000;
 
+  /**
+   * Specify the name of the attribute of the aspect annotation that names a fallback method.
+   *
+   * <p>When specified the fallback methods are validated at compile time (with a compile error
+   * when the fallback method is not found) and the generated proxy calls them directly rather
+   * than by reflection. Aspect providers obtain these via {@link Fallback#find(String, java.lang.reflect.Method)}.
+   *
+   * <pre>{@code
+   *
+   *   @Aspect(fallbackAttribute = "fallbackMethod")
+   *   @Retention(RetentionPolicy.RUNTIME)
+   *   public @interface MyRetry {
+   *
+   *     String fallbackMethod() default "";
+   *   }
+   *
+   * }</pre>
+   *
+   * @return The name of the attribute that names a fallback method
+   */
+  String fallbackAttribute() default "";
+
   /**
    * Marks an External Annotation as being used for aspects
    */
@@ -57,5 +79,12 @@ public @interface Aspect {
      * @return The ordering of this aspect. High value for outer-most aspect.
      */
     int ordering() default 1000;
+
+    /**
+     * Specify the name of the attribute of the aspect annotation that names a fallback method.
+     *
+     * @return The name of the attribute that names a fallback method
+     */
+    String fallbackAttribute() default "";
   }
 }
@@ -13,6 +13,13 @@ public interface AspectProvider<T extends Annotation> {
 
   /**
    * Return the method interceptor to use for the given method and aspect annotation.
+   * <p>
+   * Return null when the method does not need to be intercepted (for example the feature
+   * is turned off by configuration) and the aspect is then skipped for the method. When all
+   * the aspects of a method are skipped the proxy calls the method directly. To enable and
+   * disable the interceptor at runtime wrap it using an {@link InterceptorSwitch}.
+   *
+   * @return The interceptor or null when the method does not need to be intercepted
    */
   MethodInterceptor interceptor(Method method, T aspectAnnotation);
 }
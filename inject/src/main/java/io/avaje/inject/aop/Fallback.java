@@ -18,6 +18,10 @@ public interface Fallback {
    * the method but additionally takes a {@code Throwable} as the last parameter. If no
    * matching method is found it then looks for the method with the name that just has the
    * matching parameters (and not the additional throwable).
+   * <p>
+   * When the aspect specifies {@link Aspect#fallbackAttribute()} the fallback method is
+   * validated at compile time and for the invocations of the generated proxy the returned
+   * fallback calls the method directly (rather than by reflection).
    *
    * @param name   The name of the fallback method
    * @param method The original method which we match to using argument types.
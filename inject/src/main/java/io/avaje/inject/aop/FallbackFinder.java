@@ -7,6 +7,10 @@ import java.lang.reflect.Parameter;
 final class FallbackFinder {
 
   static Fallback find(String name, Method method) throws NoSuchMethodException {
+    return new Chained(name, reflective(name, method));
+  }
+
+  private static Fallback reflective(String name, Method method) throws NoSuchMethodException {
     final Class<?> type = method.getDeclaringClass();
     final Parameter[] parameters = method.getParameters();
     try {
@@ -33,6 +37,29 @@ final class FallbackFinder {
     return paramTypes;
   }
 
+  /**
+   * Calls the fallback method bound by the generated proxy for its invocations and
+   * otherwise calls the fallback method by reflection.
+   */
+  static final class Chained implements Fallback {
+
+    private final String name;
+    private final Fallback reflective;
+
+    Chained(String name, Fallback reflective) {
+      this.name = name;
+      this.reflective = reflective;
+    }
+
+    @Override
+    public Object invoke(Invocation call, Throwable e) {
+      if (call instanceof Invocation.Chained) {
+        return ((Invocation.Chained<?>) call).fallback(name, e, reflective);
+      }
+      return reflective.invoke(call, e);
+    }
+  }
+
   static final class WithThrowable implements Fallback {
 
     private final Method fallbackMethod;
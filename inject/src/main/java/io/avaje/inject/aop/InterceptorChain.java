@@ -0,0 +1,101 @@
+package io.avaje.inject.aop;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * The interceptors of a proxied method used by generated proxies.
+ * <p>
+ * Null interceptors (the aspect provider has determined the method does not need
+ * interception) are dropped as are interceptors of a disabled {@link InterceptorSwitch}.
+ * When no interceptors remain {@link #interceptors()} returns null and the proxy calls
+ * the method directly.
+ */
+public final class InterceptorChain {
+
+  private final MethodInterceptor[] all;
+  private final InterceptorSwitch[] switches;
+  private final MethodInterceptor[] fixed;
+  private volatile Active active;
+
+  /**
+   * Create given the interceptors outer-most first.
+   */
+  public static InterceptorChain of(MethodInterceptor... interceptors) {
+    return new InterceptorChain(interceptors);
+  }
+
+  private InterceptorChain(MethodInterceptor[] interceptors) {
+    final List<MethodInterceptor> list = new ArrayList<>(interceptors.length);
+    final Set<InterceptorSwitch> switchSet = new LinkedHashSet<>();
+    for (MethodInterceptor interceptor : interceptors) {
+      if (interceptor != null) {
+        list.add(interceptor);
+        if (interceptor instanceof InterceptorSwitch.Switched) {
+          switchSet.add(((InterceptorSwitch.Switched) interceptor).enabledSwitch());
+        }
+      }
+    }
+    this.all = list.toArray(new MethodInterceptor[0]);
+    this.switches = switchSet.toArray(new InterceptorSwitch[0]);
+    this.fixed = switches.length == 0 ? activeOf(all) : null;
+    this.active = new Active(version(), activeOf(all));
+  }
+
+  /**
+   * Return the enabled interceptors outer-most first or null when there are none.
+   */
+  public MethodInterceptor[] interceptors() {
+    if (switches.length == 0) {
+      return fixed;
+    }
+    final Active current = active;
+    final int version = version();
+    if (current.version == version) {
+      return current.interceptors;
+    }
+    // a switch has changed, read the version first such that a concurrent change refreshes again
+    final Active refreshed = new Active(version, activeOf(all));
+    active = refreshed;
+    return refreshed.interceptors;
+  }
+
+  /**
+   * Return the combined version of the switches used by this chain.
+   * <p>
+   * Each switch only increments its version so the sum changes whenever any of them change.
+   */
+  private int version() {
+    int sum = 0;
+    for (InterceptorSwitch enabledSwitch : switches) {
+      sum += enabledSwitch.version();
+    }
+    return sum;
+  }
+
+  private static MethodInterceptor[] activeOf(MethodInterceptor[] all) {
+    final List<MethodInterceptor> list = new ArrayList<>(all.length);
+    for (MethodInterceptor interceptor : all) {
+      final MethodInterceptor active = interceptor instanceof InterceptorSwitch.Switched
+        ? ((InterceptorSwitch.Switched) interceptor).active()
+        : interceptor;
+      if (active != null) {
+        list.add(active);
+      }
+    }
+    return list.isEmpty() ? null : list.toArray(new MethodInterceptor[0]);
+  }
+
+  private static final class Active {
+
+    private final int version;
+    private final MethodInterceptor[] interceptors;
+
+    private Active(int version, MethodInterceptor[] interceptors) {
+      this.version = version;
+      this.interceptors = interceptors;
+    }
+  }
+}
@@ -0,0 +1,114 @@
+package io.avaje.inject.aop;
+
+/**
+ * Enables or disables method interceptors at runtime without rebuilding the scope.
+ * <p>
+ * An {@link AspectProvider} wraps the interceptors it returns with a switch. When the
+ * switch is disabled the generated proxy drops the interceptor from the chain and when
+ * all the interceptors of a method are disabled the proxy calls the method directly.
+ *
+ * <pre>{@code
+ *
+ *   @Singleton
+ *   public final class TracingProvider implements AspectProvider<Traced> {
+ *
+ *     private final InterceptorSwitch enabled = new InterceptorSwitch(false);
+ *
+ *     public void enabled(boolean on) {
+ *       enabled.enabled(on);
+ *     }
+ *
+ *     @Override
+ *     public MethodInterceptor interceptor(Method method, Traced traced) {
+ *       return enabled.wrap(new TracingInterceptor(method));
+ *     }
+ *   }
+ *
+ * }</pre>
+ */
+public final class InterceptorSwitch {
+
+  private volatile boolean enabled;
+
+  /**
+   * Incremented when this switch changes such that the chains using it know to refresh.
+   */
+  private volatile int version;
+
+  /**
+   * Create with the initial enabled state.
+   */
+  public InterceptorSwitch(boolean enabled) {
+    this.enabled = enabled;
+  }
+
+  int version() {
+    return version;
+  }
+
+  /**
+   * Return true if the interceptors of this switch are enabled.
+   */
+  public boolean enabled() {
+    return enabled;
+  }
+
+  /**
+   * Enable or disable the interceptors of this switch.
+   */
+  public void enabled(boolean enabled) {
+    synchronized (this) {
+      if (this.enabled != enabled) {
+        this.enabled = enabled;
+        version++;
+      }
+    }
+  }
+
+  /**
+   * Return the interceptor that is only applied while this switch is enabled.
+   */
+  public MethodInterceptor wrap(MethodInterceptor interceptor) {
+    return new Switched(this, interceptor);
+  }
+
+  /**
+   * An interceptor controlled by a switch.
+   * <p>
+   * The chains apply the underlying interceptor directly, this is only invoked when used
+   * outside of a chain.
+   */
+  static final class Switched implements MethodInterceptor {
+
+    private final InterceptorSwitch enabled;
+    private final MethodInterceptor interceptor;
+
+    Switched(InterceptorSwitch enabled, MethodInterceptor interceptor) {
+      this.enabled = enabled;
+      this.interceptor = interceptor;
+    }
+
+    /**
+     * Return the switch controlling the interceptor.
+     */
+    InterceptorSwitch enabledSwitch() {
+      return enabled;
+    }
+
+    /**
+     * Return the underlying interceptor or null when disabled.
+     */
+    MethodInterceptor active() {
+      return enabled.enabled ? interceptor : null;
+    }
+
+    @Override
+    public void invoke(Invocation invocation) throws Throwable {
+      if (enabled.enabled) {
+        interceptor.invoke(invocation);
+      } else {
+        invocation.invoke();
+      }
+    }
+  }
+}
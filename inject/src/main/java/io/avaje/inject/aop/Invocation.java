@@ -19,6 +19,18 @@ public interface Invocation {
    */
   Object invoke() throws Throwable;
 
+  /**
+   * Invoke the underlying method without returning the result.
+   * <p>
+   * Use this rather than {@link #invoke()} when the interceptor does not use the result
+   * (for example timing or tracing) such that primitive results are not boxed.
+   *
+   * @throws Throwable Exception thrown by underlying method
+   */
+  default void proceed() throws Throwable {
+    invoke();
+  }
+
   /**
    * Invoke the underlying method returning the result. Checked exceptions will be caught and
    * rethrown as {@code InvocationException}s.
@@ -45,11 +57,76 @@ public interface Invocation {
    */
   void result(Object result);
 
+  /**
+   * Set the int result that will be returned to the caller (without boxing for int methods).
+   */
+  default void result(int result) {
+    result((Object) result);
+  }
+
+  /**
+   * Set the long result that will be returned to the caller (without boxing for long methods).
+   */
+  default void result(long result) {
+    result((Object) result);
+  }
+
+  /**
+   * Set the double result that will be returned to the caller (without boxing for double methods).
+   */
+  default void result(double result) {
+    result((Object) result);
+  }
+
+  /**
+   * Set the boolean result that will be returned to the caller (without boxing for boolean methods).
+   */
+  default void result(boolean result) {
+    result((Object) result);
+  }
+
   /**
    * Return the arguments used for this invocation.
    */
   Object[] arguments();
 
+  /**
+   * Return the argument at the given index.
+   * <p>
+   * Unlike {@link #arguments()} this does not create the arguments array for generated proxies.
+   */
+  default Object argument(int index) {
+    return arguments()[index];
+  }
+
+  /**
+   * Return the int argument at the given index (without boxing for generated proxies).
+   */
+  default int intArgument(int index) {
+    return (Integer) argument(index);
+  }
+
+  /**
+   * Return the long argument at the given index (without boxing for generated proxies).
+   */
+  default long longArgument(int index) {
+    return (Long) argument(index);
+  }
+
+  /**
+   * Return the double argument at the given index (without boxing for generated proxies).
+   */
+  default double doubleArgument(int index) {
+    return (Double) argument(index);
+  }
+
+  /**
+   * Return the boolean argument at the given index (without boxing for generated proxies).
+   */
+  default boolean booleanArgument(int index) {
+    return (Boolean) argument(index);
+  }
+
   /**
    * Return the arguments additionally appending the throwable.
    */
@@ -202,6 +279,248 @@ public interface Invocation {
     }
   }
 
+  /**
+   * Invocation that calls the interceptors of a method as a chain built once per method.
+   * <p>
+   * Generated proxies create a single instance of this per method call holding the arguments
+   * and calling the underlying method, such that calling a method through several interceptors
+   * does not create an invocation and closure per interceptor. The arguments array is only
+   * created when {@link #arguments()} is used with the typed argument accessors overridden
+   * to avoid boxing. Methods returning int, long, double or boolean use the specialised
+   * subtypes such that the result is not boxed unless it is obtained via {@link #invoke()}.
+   * <p>
+   * The interceptors are ordered outer-most first with {@link #proceed()} calling the next
+   * interceptor in the chain and the last interceptor calling the underlying method.
+   *
+   * @param <T> The result type
+   */
+  abstract class Chained<T> extends Base<T> {
+
+    private final MethodInterceptor[] chain;
+    private int position;
+
+    /**
+     * Create given the instance, method and interceptors ordered outer-most first.
+     */
+    protected Chained(Object instance, Method method, MethodInterceptor[] chain) {
+      this.instance = instance;
+      this.method = method;
+      this.chain = chain;
+    }
+
+    /**
+     * Call the underlying method setting the result.
+     */
+    protected abstract void invokeMethod() throws Throwable;
+
+    /**
+     * Create the arguments of the method call.
+     */
+    protected abstract Object[] createArguments();
+
+    /**
+     * Call the interceptors with the result then available via {@link #finalResult()}.
+     */
+    public final void intercept() throws Throwable {
+      position = 0;
+      chain[0].invoke(this);
+    }
+
+    @Override
+    public final void proceed() throws Throwable {
+      final int next = position + 1;
+      position = next;
+      try {
+        if (next < chain.length) {
+          chain[next].invoke(this);
+        } else {
+          invokeMethod();
+        }
+      } finally {
+        // interceptors can invoke more than once
+        position = next - 1;
+      }
+    }
+
+    @Override
+    public final Object invoke() throws Throwable {
+      proceed();
+      return finalResult();
+    }
+
+    @Override
+    public Object[] arguments() {
+      if (args == null) {
+        args = createArguments();
+      }
+      return args;
+    }
+
+    @Override
+    public Object[] arguments(Throwable e) {
+      arguments();
+      return super.arguments(e);
+    }
+
+    /**
+     * Invoke the fallback method with the given name.
+     * <p>
+     * Generated proxies override this to call the fallback methods validated at compile
+     * time directly, otherwise the given fallback found by reflection is invoked.
+     */
+    protected Object fallback(String name, Throwable e, Fallback reflective) {
+      return reflective.invoke(this, e);
+    }
+
+    /**
+     * Wrap this invocation such that the wrapped call continues the chain from the
+     * current interceptor (typically the interceptor calling wrap).
+     */
+    @Override
+    public Base<T> wrap(MethodInterceptor methodInterceptor) {
+      return new Invocation.Call<T>(() -> {
+        methodInterceptor.invoke(this);
+        return finalResult();
+      }).with(instance, method, arguments());
+    }
+  }
+
+  /**
+   * Chained invocation of a method returning int.
+   */
+  abstract class ChainedInt extends Chained<Integer> {
+
+    private int value;
+
+    protected ChainedInt(Object instance, Method method, MethodInterceptor[] chain) {
+      super(instance, method, chain);
+    }
+
+    @Override
+    public final void result(int result) {
+      this.value = result;
+    }
+
+    @Override
+    public final void result(Object result) {
+      this.value = (Integer) result;
+    }
+
+    @Override
+    public final Integer finalResult() {
+      return value;
+    }
+
+    /**
+     * Return the final result without boxing.
+     */
+    public final int intResult() {
+      return value;
+    }
+  }
+
+  /**
+   * Chained invocation of a method returning long.
+   */
+  abstract class ChainedLong extends Chained<Long> {
+
+    private long value;
+
+    protected ChainedLong(Object instance, Method method, MethodInterceptor[] chain) {
+      super(instance, method, chain);
+    }
+
+    @Override
+    public final void result(long result) {
+      this.value = result;
+    }
+
+    @Override
+    public final void result(Object result) {
+      this.value = (Long) result;
+    }
+
+    @Override
+    public final Long finalResult() {
+      return value;
+    }
+
+    /**
+     * Return the final result without boxing.
+     */
+    public final long longResult() {
+      return value;
+    }
+  }
+
+  /**
+   * Chained invocation of a method returning double.
+   */
+  abstract class ChainedDouble extends Chained<Double> {
+
+    private double value;
+
+    protected ChainedDouble(Object instance, Method method, MethodInterceptor[] chain) {
+      super(instance, method, chain);
+    }
+
+    @Override
+    public final void result(double result) {
+      this.value = result;
+    }
+
+    @Override
+    public final void result(Object result) {
+      this.value = (Double) result;
+    }
+
+    @Override
+    public final Double finalResult() {
+      return value;
+    }
+
+    /**
+     * Return the final result without boxing.
+     */
+    public final double doubleResult() {
+      return value;
+    }
+  }
+
+  /**
+   * Chained invocation of a method returning boolean.
+   */
+  abstract class ChainedBoolean extends Chained<Boolean> {
+
+    private boolean value;
+
+    protected ChainedBoolean(Object instance, Method method, MethodInterceptor[] chain) {
+      super(instance, method, chain);
+    }
+
+    @Override
+    public final void result(boolean result) {
+      this.value = result;
+    }
+
+    @Override
+    public final void result(Object result) {
+      this.value = (Boolean) result;
+    }
+
+    @Override
+    public final Boolean finalResult() {
+      return value;
+    }
+
+    /**
+     * Return the final result without boxing.
+     */
+    public final boolean booleanResult() {
+      return value;
+    }
+  }
+
   /**
    * Runnable with checked exceptions.
    */
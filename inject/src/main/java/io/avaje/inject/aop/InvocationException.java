@@ -8,6 +8,51 @@ package io.avaje.inject.aop;
  */
 public class InvocationException extends RuntimeException {
 
+  private static final int MARKER_SHARED = 0;
+  private static final int MARKER_NONE = 1;
+  private static final int MARKER_FULL = 2;
+  private static final int MARKER_MODE = markerMode(System.getProperty("avaje.inject.aop.marker", "shared"));
+
+  private static int markerMode(String mode) {
+    switch (mode) {
+      case "none":
+        return MARKER_NONE;
+      case "full":
+        return MARKER_FULL;
+      default:
+        return MARKER_SHARED;
+    }
+  }
+
+  /**
+   * Return the marker added by a generated proxy to the exceptions thrown by the given method.
+   * <p>
+   * The marker is created once per proxied method and has no stack trace such that adding
+   * it to an exception does not cost an allocation and stack walk per throw.
+   */
+  public static InvocationException proxyMarker(String method) {
+    return new InvocationException(method + " proxy threw exception", null, false, false);
+  }
+
+  /**
+   * Add the proxy marker to the exception as a suppressed exception.
+   * <p>
+   * By default the shared marker is added. Set the system property
+   * {@code avaje.inject.aop.marker} to {@code none} to not add the marker or to
+   * {@code full} to add a new marker with a stack trace per exception.
+   */
+  public static void addMarker(Throwable exception, InvocationException marker) {
+    switch (MARKER_MODE) {
+      case MARKER_NONE:
+        return;
+      case MARKER_FULL:
+        exception.addSuppressed(new InvocationException(marker.getMessage()));
+        return;
+      default:
+        exception.addSuppressed(marker);
+    }
+  }
+
   /**
    * Create with a given cause.
    */
@@ -28,4 +73,12 @@ public class InvocationException extends RuntimeException {
   public InvocationException(String message, Throwable cause) {
     super(message, cause);
   }
+
+  /**
+   * Create with a given message, cause and with suppression and the stack trace
+   * enabled or disabled.
+   */
+  protected InvocationException(String message, Throwable cause, boolean enableSuppression, boolean writableStackTrace) {
+    super(message, cause, enableSuppression, writableStackTrace);
+  }
 }
@@ -4,11 +4,15 @@ import io.avaje.inject.BeanScope;
 import jakarta.inject.Provider;
 
 import java.lang.reflect.Type;
+import java.time.Duration;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
 import java.util.function.Consumer;
+import java.util.function.Supplier;
 
 /**
  * Mutable builder object used when building a bean scope.
@@ -33,6 +37,99 @@ public interface Builder {
     return new DBuilderExtn(profiles, plugin, parent, parentOverride, suppliedBeans, enrichBeans);
   }
 
+  /**
+   * Build the modules sequentially in the given order.
+   *
+   * @param modules The modules in build order
+   */
+  default void buildModules(List<Module> modules) {
+    for (final Module module : modules) {
+      module.build(this);
+    }
+  }
+
+  /**
+   * Build the modules concurrently using the given executor.
+   * <p>
+   * Each module is built once the modules it depends on have been built. While
+   * building, a module only sees the beans registered by itself and the modules it
+   * depends on (transitively). The registered beans, lifecycle methods and injectors
+   * end up in the same order as building the modules sequentially.
+   * <p>
+   * By default the modules are built sequentially.
+   *
+   * @param modules   The modules in build order
+   * @param dependsOn For each module the indexes of the modules it depends on
+   * @param executor  The executor used to build the modules
+   */
+  default void buildModules(List<Module> modules, int[][] dependsOn, Executor executor) {
+    buildModules(modules);
+  }
+
+  /**
+   * Build the beans of a module given the dependency level of each bean.
+   * <p>
+   * When the modules are being built concurrently the beans of the same level are built
+   * concurrently, otherwise the beans are built sequentially in the given order. Either
+   * way the beans, lifecycle methods and injectors are registered in the given order.
+   *
+   * @param levels The dependency level of each bean
+   * @param beans  The functions that build and register each bean in build order
+   */
+  default void buildBeans(int[] levels, Runnable... beans) {
+    for (final Runnable bean : beans) {
+      bean.run();
+    }
+  }
+
+  /**
+   * Run the PostConstruct methods of the beans concurrently using the given executor.
+   * <p>
+   * This must be called before any beans are built. The beans that each bean depends on
+   * are recorded while building such that the PostConstruct methods of a bean run after
+   * those of its dependencies. PostConstruct methods that are not added for a bean run
+   * sequentially after those of the beans.
+   * <p>
+   * By default this is ignored and the PostConstruct methods run sequentially.
+   *
+   * @param executor The executor used to run the PostConstruct methods
+   * @param timeout  The maximum time to wait for the PostConstruct methods of the beans
+   */
+  default void parallelPostConstruct(Executor executor, Duration timeout) {
+    // run sequentially
+  }
+
+  /**
+   * Close the PreDestroy methods of the same priority concurrently when the scope is closed.
+   * <p>
+   * Priorities are closed in order as with a sequential close. The closeables that do not
+   * complete within the band timeout (bounded by the overall timeout) are reported and
+   * interrupted before the next priority is closed.
+   * <p>
+   * By default this is ignored and the PreDestroy methods are closed sequentially.
+   *
+   * @param executor    Supplies the executor used (and shutdown) when closing
+   * @param bandTimeout The maximum time to wait for the closeables of a priority
+   * @param timeout     The maximum time to wait for all the closeables
+   */
+  default void parallelClose(Supplier<ExecutorService> executor, Duration bandTimeout, Duration timeout) {
+    // close sequentially
+  }
+
+  /**
+   * Record the time spent building, injecting, starting and closing each module and bean.
+   * <p>
+   * This must be called before any beans are built. The recorded times are available via
+   * {@link BeanScope#wiringProfile()}.
+   * <p>
+   * By default this is ignored and no wiring profile is recorded.
+   *
+   * @param phases The time spent in the phases prior to building the modules
+   */
+  default void profileWiring(Map<String, Duration> phases) {
+    // not profiled
+  }
+
   /**
    * Return true if the bean should be created and registered with the context.
    * <p/>
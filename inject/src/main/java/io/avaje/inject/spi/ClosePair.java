@@ -4,10 +4,19 @@ public final class ClosePair implements Comparable<ClosePair> {
 
   private final int priority;
   private final AutoCloseable closeable;
+  private final String bean;
 
   public ClosePair(int priority, AutoCloseable closeable) {
+    this(priority, closeable, null);
+  }
+
+  /**
+   * Create with a description of the bean being closed (type and name) used when reporting.
+   */
+  public ClosePair(int priority, AutoCloseable closeable, String bean) {
     this.priority = priority;
     this.closeable = closeable;
+    this.bean = bean;
   }
 
   public int priority() {
@@ -18,6 +27,14 @@ public final class ClosePair implements Comparable<ClosePair> {
     return closeable;
   }
 
+  /**
+   * Return the bean being closed (or the closeable when the bean is not known).
+   */
+  @Override
+  public String toString() {
+    return bean != null ? bean : String.valueOf(closeable);
+  }
+
   @Override
   public int compareTo(ClosePair o) {
     return Integer.compare(priority, o.priority);
@@ -0,0 +1,54 @@
+package io.avaje.inject.spi;
+
+import io.avaje.inject.BeanHandle;
+
+/**
+ * BeanHandle implementations for a resolved entry.
+ */
+final class DBeanHandle {
+
+  private DBeanHandle() {
+  }
+
+  /**
+   * Return a handle for the resolved entry.
+   * <p>
+   * A plain bean is held directly, provider based entries are invoked on each get.
+   */
+  static <T> BeanHandle<T> of(DContextEntryBean entryBean) {
+    if (entryBean.isProvided()) {
+      return new Provided<>(entryBean);
+    }
+    return new Bean<>(entryBean.bean());
+  }
+
+  static final class Bean<T> implements BeanHandle<T> {
+
+    private final T bean;
+
+    @SuppressWarnings("unchecked")
+    Bean(Object bean) {
+      this.bean = (T) bean;
+    }
+
+    @Override
+    public T get() {
+      return bean;
+    }
+  }
+
+  static final class Provided<T> implements BeanHandle<T> {
+
+    private final DContextEntryBean entryBean;
+
+    Provided(DContextEntryBean entryBean) {
+      this.entryBean = entryBean;
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public T get() {
+      return (T) entryBean.bean();
+    }
+  }
+}
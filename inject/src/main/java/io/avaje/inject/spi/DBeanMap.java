@@ -4,43 +4,161 @@ import io.avaje.inject.BeanEntry;
 import io.avaje.inject.BeanScope;
 import jakarta.inject.Provider;
 
+import java.lang.annotation.Annotation;
 import java.lang.reflect.ParameterizedType;
 import java.lang.reflect.Type;
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.Comparator;
 import java.util.HashSet;
+import java.util.IdentityHashMap;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
 
 /**
  * Map of types (class types, interfaces and annotations) to a DContextEntry where the
  * entry holds a list of bean instances for that type.
+ * <p>
+ * Entries are keyed by type name with additional indexes by Class identity and by
+ * generic type such that lookups do not need to build the type name.
+ * <p>
+ * Once wiring has completed the map is frozen into an immutable {@link FrozenIndex}
+ * and the mutable maps used while wiring are released.
+ * <p>
+ * Each registered bean is also held with its bean class such that beans can be
+ * found by annotation without instantiating lazy providers.
+ * <p>
+ * When modules are built concurrently, registration and lookup are guarded by a lock,
+ * the next bean is held per module task and lookups only see the beans registered by
+ * the module itself and the modules it depends on. When the concurrent build completes
+ * the entries are sorted into the order of a sequential build. Beans of a module that
+ * are built concurrently use registration sequences reserved per bean for this.
  */
 final class DBeanMap {
   private static final Optional<Object> EMPTY = Optional.empty();
-  private final Map<String, DContextEntry> beans = new LinkedHashMap<>();
-  private final Set<String> qualifiers = new HashSet<>();
+  private Map<String, DContextEntry> beans = new LinkedHashMap<>();
+  private Map<Class<?>, DContextEntry> classIndex = new IdentityHashMap<>();
+  private Map<Type, DContextEntry> typeIndex = new ConcurrentHashMap<>();
+  private Set<String> qualifiers = new HashSet<>();
+  private List<TypedBean> typedBeans = new ArrayList<>();
+  private TypedBean[] frozenTypedBeans;
+  private final Map<Class<? extends Annotation>, DContextEntryBean[]> annotationIndex = new ConcurrentHashMap<>();
+  private FrozenIndex frozen;
 
   private NextBean nextBean;
 
+  private final ReentrantLock lock = new ReentrantLock();
+  private ThreadLocal<ModuleTask> tasks;
+  private volatile boolean concurrent;
+  private long registrations;
+
   DBeanMap() {
   }
 
+  /**
+   * Start building modules concurrently.
+   */
+  void startConcurrent() {
+    tasks = new ThreadLocal<>();
+    concurrent = true;
+  }
+
+  /**
+   * End building modules concurrently sorting the entries into sequential build order.
+   */
+  void endConcurrent() {
+    concurrent = false;
+    tasks = null;
+    for (DContextEntry entry : beans.values()) {
+      entry.sort();
+    }
+    typedBeans.sort(TypedBean.ORDER);
+    // restore the order of the types to that of their first registered bean
+    final List<Map.Entry<String, DContextEntry>> entries = new ArrayList<>(beans.entrySet());
+    entries.sort(Map.Entry.comparingByValue(DContextEntry.FIRST_ORDER));
+    beans = new LinkedHashMap<>();
+    for (Map.Entry<String, DContextEntry> entry : entries) {
+      beans.put(entry.getKey(), entry.getValue());
+    }
+  }
+
+  /**
+   * Reserve a block of registration sequence numbers returning the first one.
+   */
+  long reserve(long count) {
+    lock.lock();
+    try {
+      final long start = registrations;
+      registrations += count;
+      return start;
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  /**
+   * Set the module task being built by the current thread.
+   */
+  void enter(ModuleTask task) {
+    tasks.set(task);
+  }
+
+  /**
+   * Clear the module task being built by the current thread.
+   */
+  void exit() {
+    tasks.remove();
+  }
+
+  /**
+   * Return the module task being built by the current thread (or null).
+   */
+  ModuleTask task() {
+    return concurrent ? tasks.get() : null;
+  }
+
   @Override
   public String toString() {
-    return "BeanMap{" + beans + '}';
+    return "BeanMap{" + (frozen != null ? frozen : beans) + '}';
+  }
+
+  /**
+   * Freeze the map after wiring has completed.
+   * <p>
+   * No further beans can be registered after this.
+   */
+  void freeze() {
+    if (frozen != null) {
+      return;
+    }
+    for (DContextEntry entry : beans.values()) {
+      entry.freeze();
+    }
+    frozen = new FrozenIndex(beans, classIndex, typeIndex);
+    qualifiers = FrozenIndex.copyOf(qualifiers);
+    frozenTypedBeans = typedBeans.toArray(new TypedBean[0]);
+    typedBeans = null;
+    beans = null;
+    classIndex = null;
+    typeIndex = null;
+    nextBean = null;
   }
 
   /**
    * Add to the map of entries.
    */
   void addAll(Map<DContextEntryBean, DEntry> map) {
+    if (frozen != null) {
+      frozen.addAll(map);
+      return;
+    }
     for (Map.Entry<String, DContextEntry> entry : beans.entrySet()) {
-      for (DContextEntryBean contentEntry : entry.getValue().entries()) {
-        map.computeIfAbsent(contentEntry, dContextEntryBean -> contentEntry.entry()).addKey(entry.getKey());
-      }
+      entry.getValue().addAll(entry.getKey(), map);
     }
   }
 
@@ -57,37 +175,198 @@ final class DBeanMap {
     Type suppliedType = supplied.type();
     qualifiers.add(supplied.name());
     DContextEntryBean entryBean = DContextEntryBean.supplied(supplied.source(), supplied.name(), supplied.priority());
-    beans.computeIfAbsent(suppliedType.getTypeName(), s -> new DContextEntry()).add(entryBean);
+    final Object source = supplied.source();
+    typedBeans.add(new TypedBean(entryBean, source instanceof Provider ? rawClass(suppliedType) : source.getClass()));
+    entryFor(suppliedType).add(entryBean);
     for (Class<?> anInterface : supplied.interfaces()) {
-      beans.computeIfAbsent(anInterface.getTypeName(), s -> new DContextEntry()).add(entryBean);
+      entryFor(anInterface).add(entryBean);
+    }
+  }
+
+  /**
+   * Return the entry for the given type creating it if necessary.
+   */
+  private DContextEntry entryFor(Type type) {
+    checkNotFrozen();
+    final DContextEntry entry = beans.computeIfAbsent(type.getTypeName(), s -> new DContextEntry());
+    final Type key = KeyUtil.canonical(type);
+    if (key instanceof Class) {
+      classIndex.put((Class<?>) key, entry);
+    } else {
+      typeIndex.put(key, entry);
+    }
+    return entry;
+  }
+
+  private void checkNotFrozen() {
+    if (frozen != null) {
+      throw new IllegalStateException("Unable to register beans after the BeanScope is built");
     }
   }
 
+  /**
+   * Return the entry for the given type or null if there is no entry.
+   * <p>
+   * Class types use identity lookup. Generic types use the canonical type as the key
+   * and only fall back to the type name for Type implementations that are not equal
+   * to the registered ones (caching the result).
+   */
+  DContextEntry entry(Type type) {
+    if (frozen != null) {
+      return frozen.get(type);
+    }
+    if (type instanceof Class) {
+      return classIndex.get(type);
+    }
+    final Type key = KeyUtil.canonical(type);
+    if (key instanceof Class) {
+      return classIndex.get(key);
+    }
+    DContextEntry entry = typeIndex.get(key);
+    if (entry == null) {
+      entry = beans.get(key.getTypeName());
+      if (entry != null) {
+        typeIndex.put(key, entry);
+      }
+    }
+    return entry;
+  }
+
   void register(Object bean) {
     if (bean == null || EMPTY.equals(bean)) {
       return;
     }
-    var name = nextBean.name;
-    qualifiers.add(name);
-    DContextEntryBean entryBean = DContextEntryBean.of(bean, name, nextBean.priority);
-    for (Type type : nextBean.types) {
-      beans.computeIfAbsent(type.getTypeName(), s -> new DContextEntry()).add(entryBean);
-    }
+    final NextBean next = next();
+    DContextEntryBean entryBean = DContextEntryBean.of(bean, next.name, next.priority);
+    add(next, entryBean, bean instanceof Provider ? beanClass(next.types) : bean.getClass());
   }
 
   void register(Provider<?> provider) {
-    qualifiers.add(nextBean.name);
-    DContextEntryBean entryBean = DContextEntryBean.provider(nextBean.prototype, provider, nextBean.name, nextBean.priority);
-    for (Type type : nextBean.types) {
-      beans.computeIfAbsent(type.getTypeName(), s -> new DContextEntry()).add(entryBean);
+    final NextBean next = next();
+    DContextEntryBean entryBean = DContextEntryBean.provider(next.prototype, provider, next.name, next.priority);
+    add(next, entryBean, beanClass(next.types));
+  }
+
+  private void add(NextBean next, DContextEntryBean entryBean, Class<?> beanClass) {
+    if (!concurrent) {
+      addEntry(next, entryBean, beanClass);
+      return;
+    }
+    final ModuleTask task = tasks.get();
+    lock.lock();
+    try {
+      if (task != null) {
+        entryBean.order(task.module(), task.seq < 0 ? registrations++ : task.seq++);
+      }
+      addEntry(next, entryBean, beanClass);
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  private void addEntry(NextBean next, DContextEntryBean entryBean, Class<?> beanClass) {
+    qualifiers.add(next.name);
+    typedBeans.add(new TypedBean(entryBean, beanClass));
+    for (Type type : next.types) {
+      entryFor(type).add(entryBean);
+    }
+  }
+
+  /**
+   * Return the matching entry bean taking into account the beans visible to the
+   * module being built when building concurrently.
+   */
+  private DContextEntryBean lookup(Type type, String name) {
+    if (!concurrent) {
+      final DContextEntry entry = entry(type);
+      return entry == null ? null : entry.entryBean(name);
+    }
+    final ModuleTask task = tasks.get();
+    lock.lock();
+    try {
+      final DContextEntry entry = entry(type);
+      return entry == null ? null : entry.entryBean(name, task);
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  /**
+   * Return the entry beans visible to the module being built concurrently.
+   */
+  private List<DContextEntryBean> visibleEntries(Type type) {
+    final ModuleTask task = tasks.get();
+    lock.lock();
+    try {
+      final DContextEntry entry = entry(type);
+      return entry == null ? Collections.emptyList() : entry.visibleEntries(task);
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  /**
+   * Return the bean class of a provider which is the first registered type.
+   */
+  private static Class<?> beanClass(Type[] types) {
+    return types == null || types.length == 0 ? null : rawClass(types[0]);
+  }
+
+  private static Class<?> rawClass(Type type) {
+    final Type key = KeyUtil.canonical(type);
+    if (key instanceof Class) {
+      return (Class<?>) key;
+    }
+    if (key instanceof ParameterizedType) {
+      final Type rawType = ((ParameterizedType) key).getRawType();
+      return rawType instanceof Class ? (Class<?>) rawType : null;
     }
+    return null;
+  }
+
+  /**
+   * Return the beans whose bean class has the given annotation.
+   * <p>
+   * Only matching beans are instantiated with the matching entries cached per
+   * annotation once the map is frozen. Beans supplied by a provider are matched
+   * on their registered bean class.
+   */
+  List<Object> listByAnnotation(Class<? extends Annotation> annotation) {
+    final DContextEntryBean[] matches = annotationMatches(annotation);
+    final List<Object> list = new ArrayList<>(matches.length);
+    for (DContextEntryBean match : matches) {
+      list.add(match.bean());
+    }
+    return list;
+  }
+
+  private DContextEntryBean[] annotationMatches(Class<? extends Annotation> annotation) {
+    if (frozenTypedBeans == null) {
+      return matches(typedBeans.toArray(new TypedBean[0]), annotation);
+    }
+    DContextEntryBean[] matches = annotationIndex.get(annotation);
+    if (matches == null) {
+      matches = matches(frozenTypedBeans, annotation);
+      annotationIndex.put(annotation, matches);
+    }
+    return matches;
+  }
+
+  private static DContextEntryBean[] matches(TypedBean[] typedBeans, Class<? extends Annotation> annotation) {
+    final List<DContextEntryBean> matches = new ArrayList<>();
+    for (TypedBean typedBean : typedBeans) {
+      if (typedBean.type != null && typedBean.type.isAnnotationPresent(annotation)) {
+        matches.add(typedBean.bean);
+      }
+    }
+    return matches.toArray(new DContextEntryBean[0]);
   }
 
   /**
    * Get with a strict match on name for the single entry case.
    */
   Object getStrict(Type type, String name) {
-    DContextEntry entry = beans.get(type.getTypeName());
+    DContextEntry entry = entry(type);
     if (entry == null) {
       return null;
     }
@@ -95,40 +374,89 @@ final class DBeanMap {
   }
 
   boolean contains(String type) {
-    return beans.containsKey(type);
+    if (frozen != null) {
+      return frozen.contains(type);
+    }
+    if (!concurrent) {
+      return beans.containsKey(type);
+    }
+    final ModuleTask task = tasks.get();
+    lock.lock();
+    try {
+      final DContextEntry entry = beans.get(type);
+      return entry != null && entry.isVisibleTo(task);
+    } finally {
+      lock.unlock();
+    }
   }
 
   boolean contains(Type type) {
-    return beans.containsKey(type.getTypeName());
+    if (!concurrent) {
+      return entry(type) != null;
+    }
+    final ModuleTask task = tasks.get();
+    lock.lock();
+    try {
+      final DContextEntry entry = entry(type);
+      return entry != null && entry.isVisibleTo(task);
+    } finally {
+      lock.unlock();
+    }
   }
 
   boolean containsQualifier(String type) {
-    return qualifiers.contains(type);
+    if (type == null) {
+      return false;
+    }
+    if (!concurrent) {
+      return qualifiers.contains(type);
+    }
+    final ModuleTask task = tasks.get();
+    lock.lock();
+    try {
+      for (TypedBean typedBean : typedBeans) {
+        if (type.equals(typedBean.bean.name()) && typedBean.bean.isVisibleTo(task)) {
+          return true;
+        }
+      }
+      return false;
+    } finally {
+      lock.unlock();
+    }
   }
 
   @SuppressWarnings("unchecked")
   <T> T get(Type type, String name) {
-    DContextEntry entry = beans.get(type.getTypeName());
+    DContextEntryBean match = lookup(type, KeyUtil.lower(name));
+    return match == null ? null : (T) match.bean();
+  }
+
+  /**
+   * Return the matching entry bean or null if not found.
+   */
+  DContextEntryBean entryBean(Type type, String name) {
+    DContextEntry entry = entry(type);
     if (entry == null) {
       return null;
     }
-    return (T) entry.get(KeyUtil.lower(name));
+    return entry.entryBean(KeyUtil.lower(name));
   }
 
   @SuppressWarnings("unchecked")
   <T> Provider<T> provider(Type type, String name) {
-    DContextEntry entry = beans.get(type.getTypeName());
-    if (entry == null) {
-      return null;
-    }
-    return (Provider<T>) entry.provider(KeyUtil.lower(name));
+    DContextEntryBean match = lookup(type, KeyUtil.lower(name));
+    return match == null ? null : (Provider<T>) match.provider();
   }
 
   /**
    * Return all bean instances matching the given type.
    */
   List<Object> all(Type type) {
-    DContextEntry entry = beans.get(type.getTypeName());
+    if (concurrent) {
+      final List<DContextEntryBean> visible = visibleEntries(type);
+      return visible.isEmpty() ? Collections.emptyList() : DContextEntry.buildAll(visible);
+    }
+    DContextEntry entry = entry(type);
     return entry != null ? entry.all() : Collections.emptyList();
   }
 
@@ -139,13 +467,17 @@ final class DBeanMap {
     if (parent == null) {
       return map(type);
     }
-    Map<String, Object> result = parent.map(type);
+    Map<String, Object> result = new LinkedHashMap<>(parent.map(type));
     result.putAll(map(type));
     return result;
   }
 
   private Map<String, Object> map(Type type) {
-    DContextEntry entry = beans.get(type.getTypeName());
+    if (concurrent) {
+      final List<DContextEntryBean> visible = visibleEntries(type);
+      return visible.isEmpty() ? Collections.emptyMap() : DContextEntry.buildMap(visible);
+    }
+    DContextEntry entry = entry(type);
     return entry != null ? entry.map() : Collections.emptyMap();
   }
 
@@ -153,9 +485,21 @@ final class DBeanMap {
    * Return true if there is a supplied bean for the name and types.
    */
   boolean isSupplied(String qualifierName, Type... types) {
+    if (!concurrent) {
+      return supplied(qualifierName, types);
+    }
+    lock.lock();
+    try {
+      return supplied(qualifierName, types);
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  private boolean supplied(String qualifierName, Type... types) {
     if (types != null) {
       for (Type type : types) {
-        DContextEntry entry = beans.get(type.getTypeName());
+        DContextEntry entry = entry(type);
         if (entry != null) {
           DContextEntryBean suppliedBean = entry.supplied(qualifierName);
           if (suppliedBean != null) {
@@ -177,7 +521,7 @@ final class DBeanMap {
   private void addSuppliedFor(Type matchType, Type[] types, DContextEntryBean suppliedBean) {
     for (Type type : types) {
       if (type != matchType && type instanceof ParameterizedType) {
-        beans.computeIfAbsent(type.getTypeName(), s -> new DContextEntry()).add(suppliedBean);
+        entryFor(type).add(suppliedBean);
       }
     }
   }
@@ -186,28 +530,179 @@ final class DBeanMap {
    * Store the qualifier name and type for the next bean to register.
    */
   void nextBean(String name, Type[] types) {
-    nextBean = new NextBean(name, types);
+    checkNotFrozen();
+    final NextBean next = new NextBean(name, types);
+    final ModuleTask task = task();
+    if (task != null) {
+      task.nextBean = next;
+    } else {
+      nextBean = next;
+    }
   }
 
   /**
    * Set the priority for the next bean to register.
    */
   void nextPriority(int priority) {
-    nextBean.priority = priority;
+    next().priority = priority;
   }
 
   /**
    * Set the next bean to register as having Prototype scope.
    */
   void nextPrototype() {
-    nextBean.prototype = true;
+    next().prototype = true;
   }
 
   /**
    * Return the types of the bean being processed/registered.
    */
   NextBean next() {
-    return nextBean;
+    final ModuleTask task = task();
+    return task != null ? task.nextBean : nextBean;
+  }
+
+  /**
+   * Immutable open addressing (linear probing) table of keys to entries used once
+   * wiring has completed.
+   * <p>
+   * The keys are Class (identity), canonical generic Type and type name String held
+   * in a single densely packed table with parallel arrays for keys and entries. The
+   * type names and entries are additionally held in registration order. Type
+   * implementations that only match by type name are cached once matched.
+   */
+  static final class FrozenIndex {
+
+    private final Object[] keys;
+    private final DContextEntry[] values;
+    private final int mask;
+    private final String[] orderedNames;
+    private final DContextEntry[] orderedEntries;
+    /**
+     * Foreign Type implementations matched by type name, cached once matched.
+     */
+    private final Map<Type, DContextEntry> matched = new ConcurrentHashMap<>();
+
+    FrozenIndex(Map<String, DContextEntry> beans, Map<Class<?>, DContextEntry> classIndex, Map<Type, DContextEntry> typeIndex) {
+      final int size = beans.size() + classIndex.size() + typeIndex.size();
+      final int capacity = tableSize(size);
+      this.keys = new Object[capacity];
+      this.values = new DContextEntry[capacity];
+      this.mask = capacity - 1;
+      this.orderedNames = new String[beans.size()];
+      this.orderedEntries = new DContextEntry[beans.size()];
+      int pos = 0;
+      for (Map.Entry<String, DContextEntry> entry : beans.entrySet()) {
+        orderedNames[pos] = entry.getKey();
+        orderedEntries[pos++] = entry.getValue();
+        put(entry.getKey(), entry.getValue());
+      }
+      classIndex.forEach(this::put);
+      typeIndex.forEach(this::put);
+    }
+
+    static Set<String> copyOf(Set<String> qualifiers) {
+      qualifiers.remove(null);
+      return Set.copyOf(qualifiers);
+    }
+
+    private static int tableSize(int size) {
+      // keep load factor under 0.5 with a power of 2 capacity
+      int capacity = 2;
+      while (capacity < size * 2) {
+        capacity <<= 1;
+      }
+      return capacity;
+    }
+
+    private static int index(Object key, int mask) {
+      final int h = key.hashCode();
+      return (h ^ (h >>> 16)) & mask;
+    }
+
+    private void put(Object key, DContextEntry entry) {
+      int i = index(key, mask);
+      Object existing;
+      while ((existing = keys[i]) != null) {
+        if (existing.equals(key)) {
+          return;
+        }
+        i = (i + 1) & mask;
+      }
+      keys[i] = key;
+      values[i] = entry;
+    }
+
+    private DContextEntry lookup(Object key) {
+      int i = index(key, mask);
+      Object existing;
+      while ((existing = keys[i]) != null) {
+        if (existing == key || existing.equals(key)) {
+          return values[i];
+        }
+        i = (i + 1) & mask;
+      }
+      return null;
+    }
+
+    DContextEntry get(Type type) {
+      if (type instanceof Class) {
+        return lookup(type);
+      }
+      final Type key = KeyUtil.canonical(type);
+      final DContextEntry entry = lookup(key);
+      if (entry != null || key instanceof Class) {
+        return entry;
+      }
+      // foreign Type implementation that does not equal the registered type
+      final DContextEntry cached = matched.get(key);
+      if (cached != null) {
+        return cached;
+      }
+      final DContextEntry byName = lookup(key.getTypeName());
+      if (byName != null) {
+        matched.put(key, byName);
+      }
+      return byName;
+    }
+
+    boolean contains(String type) {
+      return lookup(type) != null;
+    }
+
+    void addAll(Map<DContextEntryBean, DEntry> map) {
+      for (int i = 0; i < orderedNames.length; i++) {
+        orderedEntries[i].addAll(orderedNames[i], map);
+      }
+    }
+
+    @Override
+    public String toString() {
+      final StringBuilder sb = new StringBuilder("{");
+      for (int i = 0; i < orderedNames.length; i++) {
+        if (i > 0) {
+          sb.append(", ");
+        }
+        sb.append(orderedNames[i]).append('=').append(orderedEntries[i]);
+      }
+      return sb.append('}').toString();
+    }
+  }
+
+  /**
+   * A registered bean with its bean class.
+   */
+  private static final class TypedBean {
+
+    static final Comparator<TypedBean> ORDER = (a, b) -> DContextEntryBean.ORDER.compare(a.bean, b.bean);
+
+    final DContextEntryBean bean;
+    final Class<?> type;
+
+    TypedBean(DContextEntryBean bean, Class<?> type) {
+      this.bean = bean;
+      this.type = type;
+    }
   }
 
   static class NextBean {
@@ -215,6 +710,12 @@ final class DBeanMap {
     final Type[] types;
     int priority = BeanEntry.NORMAL;
     boolean prototype;
+    /** Bean provided by the parent scope that we are not overriding. */
+    Object parentMatch;
+    /** The nanoTime the bean was started when profiling the wiring. */
+    long start;
+    /** The wiring profile timing of the bean. */
+    WiringProfiler.DTiming timing;
 
     NextBean(String name, Type[] types) {
       this.name = name;
@@ -2,8 +2,10 @@ package io.avaje.inject.spi;
 
 import io.avaje.applog.AppLog;
 import io.avaje.inject.BeanEntry;
+import io.avaje.inject.BeanHandle;
 import io.avaje.inject.BeanScope;
 import io.avaje.inject.Priority;
+import io.avaje.inject.WiringProfile;
 import io.avaje.lang.NonNullApi;
 import io.avaje.lang.Nullable;
 
@@ -11,12 +13,14 @@ import java.lang.System.Logger.Level;
 import java.lang.annotation.Annotation;
 import java.lang.reflect.Type;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.locks.ReentrantLock;
 import java.util.function.Consumer;
-import java.util.stream.Collectors;
 
+import static java.lang.System.Logger.Level.DEBUG;
 import static java.lang.System.Logger.Level.INFO;
 import static java.lang.System.Logger.Level.TRACE;
+import static java.util.stream.Collectors.toUnmodifiableList;
 
 @NonNullApi
 final class DBeanScope implements BeanScope {
@@ -26,25 +30,44 @@ final class DBeanScope implements BeanScope {
   private final ReentrantLock lock = new ReentrantLock();
   private final List<Runnable> postConstruct;
   private final List<Consumer<BeanScope>> postConstructConsumers;
-  private final List<AutoCloseable> preDestroy;
+  private final List<ClosePair> preDestroy;
   private final DBeanMap beans;
   private final ShutdownHook shutdownHook;
   private final BeanScope parent;
+  private final ParentChain parentChain;
+  /** The sorted lists keyed by type and then priority annotation. */
+  private final Map<Class<?>, Map<Class<? extends Annotation>, List<Object>>> sortedCache = new ConcurrentHashMap<>();
+  private final Map<Class<? extends Annotation>, Map<Class<?>, OptionalInt>> priorities = new ConcurrentHashMap<>();
+  /** Runs the PostConstruct methods concurrently when set (released once started). */
+  private ParallelPostConstruct parallelPostConstruct;
+  /** Closes the PreDestroy methods concurrently by priority when set. */
+  private final ParallelClose parallelClose;
+  /** The wiring profile when profiling (otherwise null). */
+  private final WiringProfiler profiler;
+  /** The beans that overran the parallel close timeouts. */
+  private volatile List<String> closeOverruns = List.of();
   private boolean shutdown;
   private boolean closed;
 
   DBeanScope(
       boolean withShutdownHook,
-      List<AutoCloseable> preDestroy,
+      List<ClosePair> preDestroy,
       List<Runnable> postConstruct,
       List<Consumer<BeanScope>> postConstructConsumers,
       DBeanMap beans,
-      BeanScope parent) {
+      BeanScope parent,
+      ParallelPostConstruct parallelPostConstruct,
+      ParallelClose parallelClose,
+      WiringProfiler profiler) {
     this.preDestroy = preDestroy;
+    this.parallelClose = parallelClose;
+    this.profiler = profiler;
+    this.parallelPostConstruct = parallelPostConstruct;
     this.postConstruct = postConstruct;
     this.postConstructConsumers = postConstructConsumers;
     this.beans = beans;
     this.parent = parent;
+    this.parentChain = ParentChain.of(parent);
     if (withShutdownHook) {
       this.shutdownHook = new ShutdownHook(this);
       Runtime.getRuntime().addShutdownHook(shutdownHook);
@@ -72,6 +95,15 @@ final class DBeanScope implements BeanScope {
     beans.addAll(map);
   }
 
+  DBeanMap beanMap() {
+    return beans;
+  }
+
+  @Nullable
+  BeanScope parent() {
+    return parent;
+  }
+
   @Override
   public boolean contains(String type) {
     return beans.contains(type);
@@ -102,10 +134,22 @@ final class DBeanScope implements BeanScope {
     if (bean != null) {
       return bean;
     }
-    if (parent == null) {
+    if (parentChain == null) {
       throw new NoSuchElementException("No bean found for type: " + type + " name: " + name);
     }
-    return parent.get(type, name);
+    return parentChain.get(type, name);
+  }
+
+  @Override
+  public <T> BeanHandle<T> handle(Type type, @Nullable String name) {
+    final DContextEntryBean entryBean = beans.entryBean(type, name);
+    if (entryBean != null) {
+      return DBeanHandle.of(entryBean);
+    }
+    if (parentChain == null) {
+      throw new NoSuchElementException("No bean found for type: " + type + " name: " + name);
+    }
+    return parentChain.handle(type, name);
   }
 
   /**
@@ -141,16 +185,19 @@ final class DBeanScope implements BeanScope {
     if (bean != null) {
       return Optional.of(bean);
     }
-    if (parent == null) {
+    if (parentChain == null) {
       return Optional.empty();
     }
-    return parent.getOptional(type, name);
+    return Optional.ofNullable(parentChain.getMaybe(type, name));
   }
 
   @SuppressWarnings("unchecked")
   @Override
   public <T> Map<String, T> map(Type type) {
-    return (Map<String, T>) beans.map(type, parent);
+    if (parentChain == null) {
+      return (Map<String, T>) beans.map(type, null);
+    }
+    return (Map<String, T>) parentChain.map(type, beans.entry(type));
   }
 
   @Override
@@ -165,11 +212,10 @@ final class DBeanScope implements BeanScope {
 
   @SuppressWarnings("unchecked")
   private <T> List<T> listOf(Type type) {
-    List<T> values = (List<T>) beans.all(type);
-    if (parent == null) {
-      return values;
+    if (parentChain == null) {
+      return (List<T>) beans.all(type);
     }
-    return combine(values, parent.list(type));
+    return (List<T>) parentChain.list(type, beans.entry(type));
   }
 
   static <T> List<T> combine(List<T> values, List<T> parentValues) {
@@ -188,19 +234,48 @@ final class DBeanScope implements BeanScope {
     return listByPriority(type, Priority.class);
   }
 
+  @SuppressWarnings("unchecked")
   @Override
   public <T> List<T> listByPriority(Class<T> type, Class<? extends Annotation> priorityAnnotation) {
-    List<T> list = list(type);
-    return list.size() > 1 ? sortByPriority(list, priorityAnnotation) : list;
+    final Map<Class<? extends Annotation>, List<Object>> byAnnotation = sortedCache.get(type);
+    if (byAnnotation != null) {
+      final List<Object> cached = byAnnotation.get(priorityAnnotation);
+      if (cached != null) {
+        return (List<T>) cached;
+      }
+    }
+    final List<T> list = list(type);
+    if (list.size() < 2) {
+      return list;
+    }
+    final List<T> sorted = sortByPriority(list, priorityAnnotation);
+    if (!isCacheable(type)) {
+      return sorted;
+    }
+    final List<T> result = sorted == list ? list : Collections.unmodifiableList(sorted);
+    sortedCache.computeIfAbsent(type, t -> new ConcurrentHashMap<>()).put(priorityAnnotation, (List<Object>) result);
+    return result;
+  }
+
+  /**
+   * Return true if the beans for the type are invariant (no prototype scoped beans).
+   */
+  private boolean isCacheable(Type type) {
+    final DContextEntry entry = beans.entry(type);
+    if (parentChain == null) {
+      return entry == null || entry.isCacheable();
+    }
+    return parentChain.cacheable(type, entry);
   }
 
   private <T> List<T> sortByPriority(List<T> list, final Class<? extends Annotation> priorityAnnotation) {
+    final Map<Class<?>, OptionalInt> classPriority = priorities.computeIfAbsent(priorityAnnotation, k -> new ConcurrentHashMap<>());
     boolean priorityUsed = false;
     List<SortBean<T>> tempList = new ArrayList<>(list.size());
     for (T bean : list) {
-      SortBean<T> sortBean = new SortBean<>(bean, priorityAnnotation);
-      tempList.add(sortBean);
-      if (!priorityUsed && sortBean.priorityDefined) {
+      OptionalInt priority = classPriority.computeIfAbsent(bean.getClass(), beanClass -> readPriority(beanClass, priorityAnnotation));
+      tempList.add(new SortBean<>(bean, priority));
+      if (!priorityUsed && priority.isPresent()) {
         priorityUsed = true;
       }
     }
@@ -217,32 +292,68 @@ final class DBeanScope implements BeanScope {
     return sorted;
   }
 
+  /**
+   * Read the priority from the annotation on the bean class.
+   */
+  static OptionalInt readPriority(Class<?> beanClass, Class<? extends Annotation> priorityAnnotation) {
+    // Avoid adding hard dependency on javax.annotation-api by using reflection
+    try {
+      final Annotation ann = beanClass.getDeclaredAnnotation(priorityAnnotation);
+      if (ann != null) {
+        return OptionalInt.of((Integer) priorityAnnotation.getMethod("value").invoke(ann));
+      }
+    } catch (Exception e) {
+      // If this happens, something has gone very wrong since a non-confirming @Priority was found...
+      throw new UnsupportedOperationException("Problem instantiating @Priority", e);
+    }
+    return OptionalInt.empty();
+  }
+
   @Override
   public List<Object> listByAnnotation(Class<? extends Annotation> annotation) {
-    final List<Object> values = all().stream()
-    	      .filter(entry -> entry.type().isAnnotationPresent(annotation))
-    	      .map(BeanEntry::bean)
-    	      .collect(Collectors.toList());
+    final List<Object> values = beans.listByAnnotation(annotation);
     if (parent == null) {
       return values;
     }
     return combine(values, parent.listByAnnotation(annotation));
   }
 
+  @Override
+  public Optional<WiringProfile> wiringProfile() {
+    return Optional.ofNullable(profiler);
+  }
+
+  @Override
+  public List<String> closeOverruns() {
+    return closeOverruns;
+  }
+
   DBeanScope start(long start) {
+    final long postConstructStart = System.nanoTime();
     lock.lock();
     try {
       log.log(TRACE, "firing postConstruct");
-      for (final var invoke : postConstruct) {
-        invoke.run();
-      }
-      for (final var consumer : postConstructConsumers) {
-        consumer.accept(this);
+      if (parallelPostConstruct != null) {
+        final ParallelPostConstruct parallel = parallelPostConstruct;
+        parallelPostConstruct = null;
+        parallel.run(postConstruct, postConstructConsumers, this);
+      } else {
+        for (final var invoke : postConstruct) {
+          invoke.run();
+        }
+        for (final var consumer : postConstructConsumers) {
+          consumer.accept(this);
+        }
       }
     } finally {
       lock.unlock();
     }
     log.log(INFO, "Wired beans in {0}ms", (System.currentTimeMillis() - start));
+    if (profiler != null) {
+      profiler.phase("postConstruct", System.nanoTime() - postConstructStart);
+      // reports the top beans when logged
+      log.log(DEBUG, "{0}", profiler);
+    }
     return this;
   }
 
@@ -257,13 +368,24 @@ final class DBeanScope implements BeanScope {
         // we only allow one call to preDestroy
         closed = true;
         log.log(TRACE, "firing preDestroy");
-        for (final AutoCloseable closeable : preDestroy) {
-          try {
-            closeable.close();
-          } catch (final Exception e) {
-            log.log(Level.ERROR, "Error during PreDestroy lifecycle method", e);
+        final long preDestroyStart = System.nanoTime();
+        if (parallelClose != null) {
+          final List<ClosePair> overran = parallelClose.close(preDestroy);
+          if (!overran.isEmpty()) {
+            closeOverruns = overran.stream().map(ClosePair::toString).collect(toUnmodifiableList());
+          }
+        } else {
+          for (final ClosePair pair : preDestroy) {
+            try {
+              pair.closeable().close();
+            } catch (final Exception e) {
+              log.log(Level.ERROR, "Error during PreDestroy lifecycle method", e);
+            }
           }
         }
+        if (profiler != null) {
+          profiler.phase("preDestroy", System.nanoTime() - preDestroyStart);
+        }
       }
     } finally {
       lock.unlock();
@@ -297,31 +419,13 @@ final class DBeanScope implements BeanScope {
 
     private final T bean;
 
-    private boolean priorityDefined;
-
     private final int priority;
 
-    SortBean(T bean, Class<? extends Annotation> priorityAnnotation) {
+    SortBean(T bean, OptionalInt priority) {
       this.bean = bean;
-      this.priority = initPriority(priorityAnnotation);
-    }
-
-    int initPriority(Class<? extends Annotation> priorityAnnotation) {
-      // Avoid adding hard dependency on javax.annotation-api by using reflection
-      try {
-        final Annotation ann = bean.getClass().getDeclaredAnnotation(priorityAnnotation);
-        if (ann != null) {
-          final int priority = (Integer) priorityAnnotation.getMethod("value").invoke(ann);
-          priorityDefined = true;
-          return priority;
-        }
-      } catch (Exception e) {
-        // If this happens, something has gone very wrong since a non-confirming @Priority was found...
-        throw new UnsupportedOperationException("Problem instantiating @Priority", e);
-      }
       // Default priority as per javax.ws.rs.Priorities.USER
       // User-level filter/interceptor priority
-      return 5000;
+      this.priority = priority.orElse(5000);
     }
 
     @Override
@@ -7,7 +7,9 @@ import java.util.Map;
 import java.util.Optional;
 
 import io.avaje.inject.BeanEntry;
+import io.avaje.inject.BeanHandle;
 import io.avaje.inject.BeanScope;
+import io.avaje.inject.WiringProfile;
 
 /** Proxy used when injecting the BeanScope. */
 final class DBeanScopeProxy implements BeanScope {
@@ -59,6 +61,16 @@ final class DBeanScopeProxy implements BeanScope {
     }
   }
 
+  @Override
+  public <T> BeanHandle<T> handle(Type type, String name) {
+    if (delegate != null) {
+      return delegate.handle(type, name);
+    } else {
+      // lookup lazily as the scope is not yet built
+      return () -> get(type, name);
+    }
+  }
+
   @Override
   public <T> Optional<T> getOptional(Class<T> type) {
     if (delegate != null) {
@@ -173,4 +185,8 @@ final class DBeanScopeProxy implements BeanScope {
     }
   }
 
+  @Override
+  public Optional<WiringProfile> wiringProfile() {
+    return delegate != null ? delegate.wiringProfile() : Optional.empty();
+  }
 }
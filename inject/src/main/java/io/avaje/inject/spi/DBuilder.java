@@ -5,14 +5,24 @@ import io.avaje.inject.BeanScope;
 import jakarta.inject.Provider;
 
 import java.lang.reflect.Type;
+import java.time.Duration;
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReentrantLock;
 import java.util.function.Consumer;
-import java.util.stream.Collectors;
+import java.util.function.Supplier;
 
 import static io.avaje.inject.spi.DBeanScope.combine;
 
 class DBuilder implements Builder {
 
+  /** The registration sequence numbers reserved per bean when building beans concurrently. */
+  private static final long BEAN_SEQUENCE = 1L << 20;
+
   private final PropertyRequiresPlugin propertyRequires;
   private final Set<String> profiles;
   /** List of Lifecycle methods. */
@@ -27,14 +37,23 @@ class DBuilder implements Builder {
 
   protected final BeanScope parent;
   protected final boolean parentOverride;
-  /** Bean provided by the parent scope that we are not overriding. */
-  protected Object parentMatch;
-  /** Debug of the current bean being wired - used in injection errors. */
-  private Type injectTarget;
   /** Flag set when we are running post construct injection. */
   private boolean runningPostConstruct;
 
+  private final ReentrantLock lock = new ReentrantLock();
   private DBeanScopeProxy beanScopeProxy;
+  /** The executor used while building modules concurrently. */
+  private Executor executor;
+  /** Records bean dependencies when running PostConstruct methods concurrently. */
+  private ParallelPostConstruct parallelPostConstruct;
+  /** Closes the PreDestroy methods concurrently by priority when set. */
+  private ParallelClose parallelClose;
+  /** The bean that the injector being run was added for. */
+  private DBeanMap.NextBean injecting;
+  /** Records the wiring time of each module and bean when set. */
+  private WiringProfiler profiler;
+  /** The index of the module being built sequentially (-1 otherwise). */
+  private int building = -1;
 
   DBuilder(Set<String> profiles, PropertyRequiresPlugin propertyRequires, BeanScope parent, boolean parentOverride) {
     this.propertyRequires = propertyRequires;
@@ -50,7 +69,6 @@ class DBuilder implements Builder {
 
   @Override
   public boolean isAddBeanFor(String name, Type... types) {
-    parentMatch = null;
     next(name, types);
     if (parentOverride || parent == null) {
       return true;
@@ -58,7 +76,8 @@ class DBuilder implements Builder {
     if (parent instanceof DBeanScope) {
       // effectively looking for a match in the test scope
       final DBeanScope dParent = (DBeanScope) parent;
-      parentMatch = dParent.getStrict(name, removeAnnotations(types));
+      final Object parentMatch = dParent.getStrict(name, removeAnnotations(types));
+      beanMap.next().parentMatch = parentMatch;
       return parentMatch == null;
     }
     return true;
@@ -85,12 +104,18 @@ class DBuilder implements Builder {
   }
 
   protected final void next(String name, Type... types) {
-    injectTarget = firstOf(types);
     beanMap.nextBean(name, types);
+    if (profiler != null) {
+      beanMap.next().start = System.nanoTime();
+    }
   }
 
-  private Type firstOf(Type[] types) {
-    return types != null && types.length > 0 ? types[0] : null;
+  /**
+   * Return the current bean being wired - used in injection errors.
+   */
+  private Type injectTarget() {
+    final DBeanMap.NextBean next = beanMap.next();
+    return next != null && next.types != null && next.types.length > 0 ? next.types[0] : null;
   }
 
   @Override
@@ -116,6 +141,9 @@ class DBuilder implements Builder {
   @SuppressWarnings({"unchecked"})
   private <T> List<T> listOf(Type type) {
     final List<T> values = (List<T>) beanMap.all(type);
+    if (parallelPostConstruct != null) {
+      values.forEach(this::dependsOn);
+    }
     if (parent == null) {
       return values;
     }
@@ -134,12 +162,19 @@ class DBuilder implements Builder {
 
   @SuppressWarnings("unchecked")
   private <T> Map<String, T> mapOf(Type type) {
-    return (Map<String, T>) beanMap.map(type, parent);
+    final Map<String, T> map = (Map<String, T>) beanMap.map(type, parent);
+    if (parallelPostConstruct != null) {
+      map.values().forEach(this::dependsOn);
+    }
+    return map;
   }
 
   private <T> T getMaybe(Type type, String name) {
     final T bean = beanMap.get(type, name);
     if (bean != null) {
+      if (parallelPostConstruct != null) {
+        dependsOn(bean);
+      }
       return bean;
     }
     return parent == null ? null : parent.<T>getOptional(type, name).orElse(null);
@@ -151,13 +186,60 @@ class DBuilder implements Builder {
     return bean;
   }
 
+  /**
+   * Record that the bean being built (or injected) depends on the given bean.
+   */
+  private void dependsOn(Object bean) {
+    parallelPostConstruct.dependsOn(injecting != null ? injecting : beanMap.next(), bean);
+  }
+
   @Override
   public final <T> T register(T bean) {
-    bean = enrich(bean, beanMap.next());
+    final DBeanMap.NextBean next = beanMap.next();
+    bean = enrich(bean, next);
     beanMap.register(bean);
+    if (parallelPostConstruct != null) {
+      parallelPostConstruct.registered(next, bean);
+    }
+    if (profiler != null) {
+      constructed(next);
+    }
     return bean;
   }
 
+  /**
+   * Add the time since the bean was started to its construct time.
+   */
+  private void constructed(DBeanMap.NextBean next) {
+    final WiringProfiler.DTiming timing = profiled();
+    if (timing != null) {
+      timing.addConstruct(System.nanoTime() - next.start);
+    }
+  }
+
+  /**
+   * Return the timing of the bean being built by a module (or null when not profiling).
+   */
+  private WiringProfiler.DTiming profiled() {
+    if (profiler == null) {
+      return null;
+    }
+    final ModuleTask task = beanMap.task();
+    final int module = task != null ? task.module() : building;
+    if (module < 0) {
+      // lifecycle methods added outside of modules are not for a bean
+      return null;
+    }
+    final DBeanMap.NextBean next = beanMap.next();
+    if (next == null) {
+      return null;
+    }
+    if (next.timing == null) {
+      next.timing = profiler.bean(next, profiler.module(module));
+    }
+    return next.timing;
+  }
+
   @Override
   public Builder asPrimary() {
     beanMap.nextPriority(BeanEntry.PRIMARY);
@@ -180,6 +262,9 @@ class DBuilder implements Builder {
   public final <T> void registerProvider(Provider<T> provider) {
     // no enrichment
     beanMap.register(provider);
+    if (profiler != null) {
+      constructed(beanMap.next());
+    }
   }
 
   @Override
@@ -189,14 +274,50 @@ class DBuilder implements Builder {
     beanMap.register(bean);
   }
 
+  @Override
+  public final void parallelPostConstruct(Executor executor, Duration timeout) {
+    this.parallelPostConstruct = new ParallelPostConstruct(executor, timeout);
+  }
+
+  @Override
+  public final void parallelClose(Supplier<ExecutorService> executor, Duration bandTimeout, Duration timeout) {
+    this.parallelClose = new ParallelClose(executor, bandTimeout, timeout);
+  }
+
+  @Override
+  public final void profileWiring(Map<String, Duration> phases) {
+    this.profiler = new WiringProfiler(phases);
+  }
+
+  /**
+   * Record the PostConstruct method or injector as added for the bean being built.
+   */
+  private void owner(Object callback) {
+    if (parallelPostConstruct != null) {
+      parallelPostConstruct.owner(beanMap.next(), callback);
+    }
+  }
+
   @Override
   public final void addPostConstruct(Runnable invoke) {
-    postConstruct.add(invoke);
+    final WiringProfiler.DTiming timing = profiled();
+    if (timing != null) {
+      invoke = timing.postConstruct(invoke);
+    }
+    owner(invoke);
+    final ModuleTask task = beanMap.task();
+    (task != null ? task.postConstruct : postConstruct).add(invoke);
   }
 
   @Override
   public void addPostConstruct(Consumer<BeanScope> consumer) {
-    postConstructConsumers.add(consumer);
+    final WiringProfiler.DTiming timing = profiled();
+    if (timing != null) {
+      consumer = timing.postConstructConsumer(consumer);
+    }
+    owner(consumer);
+    final ModuleTask task = beanMap.task();
+    (task != null ? task.postConstructConsumers : postConstructConsumers).add(consumer);
   }
 
   @Override
@@ -206,19 +327,42 @@ class DBuilder implements Builder {
 
   @Override
   public final void addPreDestroy(AutoCloseable invoke, int priority) {
-    preDestroy.add(new ClosePair(priority, invoke));
+    final WiringProfiler.DTiming timing = profiled();
+    if (timing != null) {
+      invoke = timing.preDestroy(invoke);
+    }
+    final ModuleTask task = beanMap.task();
+    (task != null ? task.preDestroy : preDestroy).add(new ClosePair(priority, invoke, closeTarget()));
+  }
+
+  /**
+   * Return the type and name of the bean being wired - used when reporting PreDestroy.
+   */
+  private String closeTarget() {
+    final Type target = injectTarget();
+    if (target == null) {
+      return null;
+    }
+    final String name = beanMap.next().name;
+    return name == null ? target.getTypeName() : target.getTypeName() + " name:" + name;
   }
 
   @Override
   public final void addAutoClosable(Object maybeAutoCloseable) {
     if (maybeAutoCloseable instanceof AutoCloseable) {
-      preDestroy.add(new ClosePair(1000, (AutoCloseable) maybeAutoCloseable));
+      addPreDestroy((AutoCloseable) maybeAutoCloseable, 1000);
     }
   }
 
   @Override
   public final void addInjector(Consumer<Builder> injector) {
-    injectors.add(injector);
+    final WiringProfiler.DTiming timing = profiled();
+    if (timing != null) {
+      injector = timing.injector(injector);
+    }
+    owner(injector);
+    final ModuleTask task = beanMap.task();
+    (task != null ? task.injectors : injectors).add(injector);
   }
 
   @Override
@@ -287,38 +431,77 @@ class DBuilder implements Builder {
 
   private <T> Provider<T> provider(Type type, String name) {
     if (runningPostConstruct) {
-      return obtainProvider(type, name);
+      return obtainProvider(type, name, injectTarget());
     }
     // use injectors to delay obtaining the provider until end of build
-    final ProviderPromise<T> promise = new ProviderPromise<>(type, name, this);
-    injectors.add(promise);
+    final ProviderPromise<T> promise = new ProviderPromise<>(type, name, injectTarget(), this);
+    addInjector(promise);
     return promise;
   }
 
-  <T> Provider<T> obtainProvider(Type type, String name) {
+  /**
+   * Obtain the provider at the end of build resolving it to the entry of the bean.
+   * <p>
+   * The returned provider does not reference this builder such that the builder is
+   * not retained by the scope (other than when it fails with the injection error).
+   *
+   * @param target The bean being wired when the provider was requested
+   */
+  <T> Provider<T> obtainProvider(Type type, String name, Type target) {
+    final Provider<T> provider = resolveProvider(type, name);
+    if (provider != null) {
+      return provider;
+    }
+    return () -> {
+      throw new IllegalStateException(errorInjectingNull(type, name, target));
+    };
+  }
+
+  private <T> Provider<T> resolveProvider(Type type, String name) {
     final Provider<T> provider = beanMap.provider(type, name);
     if (provider != null) {
       return provider;
     }
-    return () -> this.get(type, name);
+    if (BeanScope.class.equals(type)) {
+      final T beanScope = injectBeanScope();
+      return () -> beanScope;
+    }
+    if (parent == null) {
+      return null;
+    }
+    try {
+      return parent.handle(type, name);
+    } catch (NoSuchElementException e) {
+      return null;
+    }
   }
 
   @Override
   public final <T> Provider<T> getProviderFor(Class<?> cls, Type type) {
+    if (runningPostConstruct) {
+      return obtainProviderFor(cls, type);
+    }
+    // use injectors to delay obtaining the provider until end of build
+    final ProviderPromise<T> promise = new ProviderPromise<>(cls, type, this);
+    addInjector(promise);
+    return promise;
+  }
+
+  <T> Provider<T> obtainProviderFor(Class<?> cls, Type type) {
+    Provider<T> provider = resolveProvider(cls, null);
+    if (provider == null) {
+      provider = resolveProvider(type, null);
+    }
+    if (provider != null) {
+      return provider;
+    }
+    final String msg =
+        "Unable to inject an instance for generic type "
+            + type
+            + " usually provided by "
+            + cls
+            + "?";
     return () -> {
-      T bean = getMaybe(cls, null);
-      if (bean == null) {
-        bean = getMaybe(type, null);
-      }
-      if (bean != null) {
-        return bean;
-      }
-      final String msg =
-          "Unable to inject an instance for generic type "
-              + type
-              + " usually provided by "
-              + cls
-              + "?";
       throw new IllegalStateException(msg);
     };
   }
@@ -383,27 +566,32 @@ class DBuilder implements Builder {
     }
     final T bean = getMaybe(type, name);
     if (bean == null) {
-      throw new IllegalStateException(errorInjectingNull(type, name));
+      throw new IllegalStateException(errorInjectingNull(type, name, injectTarget()));
     }
     return bean;
   }
 
   @SuppressWarnings("unchecked")
   private <T> T injectBeanScope() {
-    if (beanScopeProxy == null) {
-      beanScopeProxy = new DBeanScopeProxy(this);
+    lock.lock();
+    try {
+      if (beanScopeProxy == null) {
+        beanScopeProxy = new DBeanScopeProxy(this);
+      }
+      return (T) beanScopeProxy;
+    } finally {
+      lock.unlock();
     }
-    return (T) beanScopeProxy;
   }
 
-  private <T> String errorInjectingNull(Type type, String name) {
+  private <T> String errorInjectingNull(Type type, String name, Type target) {
     final StringBuilder msg = new StringBuilder("Injecting null for ").append(type.getTypeName());
     if (name != null) {
       msg.append(" name:").append(name);
     }
     final List<T> beanList = list(type);
     msg.append(" when creating ")
-        .append(injectTarget)
+        .append(target)
         .append(" - potential beans to inject: ")
         .append(beanList);
     if (!beanList.isEmpty()) {
@@ -414,17 +602,207 @@ class DBuilder implements Builder {
     return msg.toString();
   }
 
+  @Override
+  public final void buildModules(List<Module> modules) {
+    if (profiler == null) {
+      for (final Module module : modules) {
+        module.build(this);
+      }
+      return;
+    }
+    profiler.modules(modules);
+    final long start = System.nanoTime();
+    try {
+      for (int i = 0; i < modules.size(); i++) {
+        building = i;
+        final long moduleStart = System.nanoTime();
+        modules.get(i).build(this);
+        profiler.module(i).addConstruct(System.nanoTime() - moduleStart);
+      }
+    } finally {
+      building = -1;
+      profiler.phase("modules", System.nanoTime() - start);
+    }
+  }
+
+  @Override
+  public final void buildModules(List<Module> modules, int[][] dependsOn, Executor executor) {
+    if (profiler != null) {
+      profiler.modules(modules);
+    }
+    final long buildStart = System.nanoTime();
+    final int size = modules.size();
+    final ModuleTask[] tasks = new ModuleTask[size];
+    final CompletableFuture<?>[] futures = new CompletableFuture<?>[size];
+    this.executor = executor;
+    beanMap.startConcurrent();
+    try {
+      for (int i = 0; i < size; i++) {
+        final BitSet visible = new BitSet(size);
+        visible.set(i);
+        final CompletableFuture<?>[] requires = new CompletableFuture<?>[dependsOn[i].length];
+        for (int j = 0; j < requires.length; j++) {
+          final int dependency = dependsOn[i][j];
+          visible.or(tasks[dependency].visible());
+          requires[j] = futures[dependency];
+        }
+        final Module module = modules.get(i);
+        final ModuleTask task = new ModuleTask(i, visible);
+        tasks[i] = task;
+        futures[i] = CompletableFuture.allOf(requires).thenRunAsync(() -> buildModule(module, task), executor);
+      }
+      CompletableFuture.allOf(futures).join();
+    } catch (CompletionException e) {
+      throw unwrap(e);
+    } finally {
+      this.executor = null;
+      beanMap.endConcurrent();
+      if (profiler != null) {
+        profiler.phase("modules", System.nanoTime() - buildStart);
+      }
+    }
+    // add the lifecycle methods and injectors in module order
+    for (ModuleTask task : tasks) {
+      postConstruct.addAll(task.postConstruct);
+      postConstructConsumers.addAll(task.postConstructConsumers);
+      preDestroy.addAll(task.preDestroy);
+      injectors.addAll(task.injectors);
+    }
+  }
+
+  private static RuntimeException unwrap(CompletionException e) {
+    final Throwable cause = e.getCause();
+    if (cause instanceof RuntimeException) {
+      return (RuntimeException) cause;
+    } else if (cause instanceof Error) {
+      throw (Error) cause;
+    }
+    return new IllegalStateException("Error building beans", cause);
+  }
+
+  private void buildModule(Module module, ModuleTask task) {
+    beanMap.enter(task);
+    final long start = System.nanoTime();
+    try {
+      module.build(this);
+    } finally {
+      beanMap.exit();
+      if (profiler != null) {
+        profiler.module(task.module()).addConstruct(System.nanoTime() - start);
+      }
+    }
+  }
+
+  @Override
+  public final void buildBeans(int[] levels, Runnable... beans) {
+    final ModuleTask moduleTask = beanMap.task();
+    if (moduleTask == null || executor == null || beans.length < 2) {
+      for (Runnable bean : beans) {
+        bean.run();
+      }
+      return;
+    }
+    // reserve registration sequences per bean such that beans sort into build order
+    final long start = beanMap.reserve((long) beans.length * BEAN_SEQUENCE);
+    final BeanTask[] tasks = new BeanTask[beans.length];
+    int maxLevel = 0;
+    for (int i = 0; i < beans.length; i++) {
+      tasks[i] = new BeanTask(new ModuleTask(moduleTask, start + i * BEAN_SEQUENCE), beans[i]);
+      maxLevel = Math.max(maxLevel, levels[i]);
+    }
+    final List<BeanTask> level = new ArrayList<>();
+    for (int l = 0; l <= maxLevel; l++) {
+      level.clear();
+      for (int i = 0; i < tasks.length; i++) {
+        if (levels[i] == l) {
+          level.add(tasks[i]);
+        }
+      }
+      buildLevel(level);
+    }
+    // add the lifecycle methods and injectors in bean order
+    for (BeanTask task : tasks) {
+      moduleTask.addAll(task.task);
+    }
+  }
+
+  /**
+   * Build the beans of a level concurrently with this thread also building beans such
+   * that we never wait on beans that are queued but not yet running.
+   */
+  private void buildLevel(List<BeanTask> level) {
+    for (int i = 1; i < level.size(); i++) {
+      executor.execute(level.get(i));
+    }
+    for (BeanTask task : level) {
+      task.run();
+    }
+    try {
+      for (BeanTask task : level) {
+        task.done.join();
+      }
+    } catch (CompletionException e) {
+      throw unwrap(e);
+    }
+  }
+
+  /**
+   * Builds a bean of a module, run by the first thread that claims it.
+   */
+  private final class BeanTask implements Runnable {
+
+    final ModuleTask task;
+    final Runnable bean;
+    final AtomicBoolean claimed = new AtomicBoolean();
+    final CompletableFuture<Void> done = new CompletableFuture<>();
+
+    BeanTask(ModuleTask task, Runnable bean) {
+      this.task = task;
+      this.bean = bean;
+    }
+
+    @Override
+    public void run() {
+      if (!claimed.compareAndSet(false, true)) {
+        return;
+      }
+      final ModuleTask current = beanMap.task();
+      beanMap.enter(task);
+      try {
+        bean.run();
+        done.complete(null);
+      } catch (Throwable e) {
+        done.completeExceptionally(e);
+      } finally {
+        if (current != null) {
+          beanMap.enter(current);
+        } else {
+          beanMap.exit();
+        }
+      }
+    }
+  }
+
   private void runInjectors() {
+    final long start = System.nanoTime();
     runningPostConstruct = true;
     for (final Consumer<Builder> injector : injectors) {
+      if (parallelPostConstruct != null) {
+        injecting = parallelPostConstruct.ownerOf(injector);
+      }
       injector.accept(this);
     }
+    injecting = null;
+    if (profiler != null && !injectors.isEmpty()) {
+      profiler.phase("injection", System.nanoTime() - start);
+    }
   }
 
   @Override
   public final BeanScope build(boolean withShutdownHook, long start) {
     runInjectors();
-    final var scope = new DBeanScope(withShutdownHook, preDestroy(), postConstruct, postConstructConsumers, beanMap, parent);
+    beanMap.freeze();
+    final var scope = new DBeanScope(withShutdownHook, preDestroy(), postConstruct, postConstructConsumers, beanMap, parent, parallelPostConstruct, parallelClose, profiler);
     if (beanScopeProxy != null) {
       beanScopeProxy.inject(scope);
     }
@@ -434,10 +812,8 @@ class DBuilder implements Builder {
   /**
    * Return the PreDestroy methods in priority order.
    */
-  private List<AutoCloseable> preDestroy() {
+  private List<ClosePair> preDestroy() {
     Collections.sort(preDestroy);
-    return preDestroy.stream()
-      .map(ClosePair::closeable)
-      .collect(Collectors.toList());
+    return preDestroy;
   }
 }
@@ -50,8 +50,10 @@ final class DBuilderExtn extends DBuilder {
    * then enrich the parentMatch bean and register that into this scope.
    */
   private void enrichParentMatch() {
+    final DBeanMap.NextBean next = beanMap.next();
+    final Object parentMatch = next.parentMatch;
     if (parentMatch != null && !enrichMap.isEmpty()) {
-      final Object enrichedBean = enrich(parentMatch, beanMap.next());
+      final Object enrichedBean = enrich(parentMatch, next);
       if (enrichedBean != parentMatch) {
         beanMap.nextPriority(BeanEntry.SUPPLIED);
         beanMap.register(enrichedBean);
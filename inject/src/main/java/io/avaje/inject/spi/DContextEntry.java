@@ -3,18 +3,38 @@ package io.avaje.inject.spi;
 import jakarta.inject.Provider;
 
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Entry for a given key (bean class, interface class or annotation class).
  * <p>
  * This holds a list of managed beans (which might be named).
+ * <p>
+ * When there are multiple entries the matching entry for a registered qualifier name
+ * is resolved once and cached (until another entry is added).
+ * <p>
+ * Once frozen, when none of the entries are prototype scoped, the list and map of
+ * beans are invariant and are cached as unmodifiable collections.
  */
 final class DContextEntry {
 
-  private final List<DContextEntryBean> entries = new ArrayList<>(5);
+  /**
+   * Order of sorted entries by their first registered bean.
+   */
+  static final Comparator<DContextEntry> FIRST_ORDER =
+    (a, b) -> DContextEntryBean.ORDER.compare(a.entries.get(0), b.entries.get(0));
+
+  private List<DContextEntryBean> entries = new ArrayList<>(5);
+  private volatile Map<String, Resolved> resolved;
+  private volatile Resolved resolvedNoName;
+  private boolean cacheable;
+  private volatile List<Object> cachedAll;
+  private volatile Map<String, Object> cachedMap;
 
   @Override
   public String toString() {
@@ -25,15 +45,116 @@ final class DContextEntry {
     return entries;
   }
 
+  /**
+   * Replace the entries with a compact immutable list once wiring has completed.
+   */
+  void freeze() {
+    entries = List.copyOf(entries);
+    cacheable = true;
+    for (DContextEntryBean entry : entries) {
+      if (entry.isPrototype()) {
+        cacheable = false;
+        break;
+      }
+    }
+  }
+
+  /**
+   * Return true if the beans are invariant such that all() and map() are cached.
+   */
+  boolean isCacheable() {
+    return cacheable;
+  }
+
+  /**
+   * Return true if any of the beans are visible to the module task.
+   */
+  boolean isVisibleTo(ModuleTask task) {
+    for (DContextEntryBean entry : entries) {
+      if (entry.isVisibleTo(task)) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  /**
+   * Return the matching entry bean visible to the module task (with the same matching as get).
+   * <p>
+   * When all the beans are visible this uses the cached resolution, otherwise only the
+   * visible beans are matched (without copying them).
+   */
+  DContextEntryBean entryBean(String name, ModuleTask task) {
+    DContextEntryBean single = null;
+    int visible = 0;
+    for (DContextEntryBean entry : entries) {
+      if (entry.isVisibleTo(task)) {
+        single = entry;
+        visible++;
+      }
+    }
+    if (visible == entries.size()) {
+      return entryBean(name);
+    }
+    if (visible <= 1) {
+      return single;
+    }
+    return new EntryMatcher(name).findMatch(entries, task);
+  }
+
+  /**
+   * Return the beans visible to the module task.
+   */
+  List<DContextEntryBean> visibleEntries(ModuleTask task) {
+    final List<DContextEntryBean> visible = new ArrayList<>(entries.size());
+    for (DContextEntryBean entry : entries) {
+      if (entry.isVisibleTo(task)) {
+        visible.add(entry);
+      }
+    }
+    return visible;
+  }
+
+  /**
+   * Sort the entries into registration order after a concurrent build.
+   */
+  void sort() {
+    entries.sort(DContextEntryBean.ORDER);
+    resolved = null;
+    resolvedNoName = null;
+  }
+
   void add(DContextEntryBean entryBean) {
     entries.add(entryBean);
+    resolved = null;
+    resolvedNoName = null;
+  }
+
+  /**
+   * Add the beans to the map of entries with the given key.
+   */
+  void addAll(String key, Map<DContextEntryBean, DEntry> map) {
+    for (DContextEntryBean entry : entries) {
+      map.computeIfAbsent(entry, dContextEntryBean -> entry.entry()).addKey(key);
+    }
   }
 
   Provider<?> provider(String name) {
     if (entries.size() == 1) {
       return entries.get(0).provider();
     }
-    return new EntryMatcher(name).provider(entries);
+    DContextEntryBean match = resolve(name);
+    return match == null ? null : match.provider();
+  }
+
+  /**
+   * Return the matching entry bean (with the same matching as get).
+   */
+  DContextEntryBean entryBean(String name) {
+    if (entries.size() == 1) {
+      return entries.get(0);
+    }
+    return resolve(name);
   }
 
   /**
@@ -43,20 +164,81 @@ final class DContextEntry {
     if (entries.size() == 1) {
       return entries.get(0).beanIfNameMatch(name);
     }
-    return new EntryMatcher(name).match(entries);
+    DContextEntryBean match = resolve(name);
+    return match == null ? null : match.bean();
   }
 
   Object get(String name) {
     if (entries.size() == 1) {
       return entries.get(0).bean();
     }
-    return new EntryMatcher(name).match(entries);
+    DContextEntryBean match = resolve(name);
+    return match == null ? null : match.bean();
+  }
+
+  /**
+   * Return the matching entry for the qualifier name using the cached resolution.
+   */
+  private DContextEntryBean resolve(String name) {
+    if (name == null) {
+      Resolved result = resolvedNoName;
+      if (result == null) {
+        result = Resolved.of(null, entries);
+        resolvedNoName = result;
+      }
+      return result.match();
+    }
+    Map<String, Resolved> map = resolved;
+    if (map == null) {
+      // created lazily as most entries never resolve by name
+      map = new ConcurrentHashMap<>();
+      resolved = map;
+    }
+    Resolved result = map.get(name);
+    if (result == null) {
+      result = Resolved.of(name, entries);
+      if (isRegisteredName(name)) {
+        // only registered names are cached such that the cache is bounded
+        map.put(name, result);
+      }
+    }
+    return result.match();
+  }
+
+  /**
+   * Return true if the qualifier name (or the implied name) is the name of an entry.
+   */
+  private boolean isRegisteredName(String name) {
+    final String qualifier = name.startsWith("!") ? name.substring(1) : name;
+    for (DContextEntryBean entry : entries) {
+      if (qualifier.equals(entry.name())) {
+        return true;
+      }
+    }
+    return false;
   }
 
   /**
    * Return all the beans.
+   * <p>
+   * This is an unmodifiable list when the entry is cacheable.
    */
   List<Object> all() {
+    if (!cacheable) {
+      return buildAll(entries);
+    }
+    List<Object> all = cachedAll;
+    if (all == null) {
+      all = Collections.unmodifiableList(buildAll(entries));
+      cachedAll = all;
+    }
+    return all;
+  }
+
+  /**
+   * Return the beans of the given entries.
+   */
+  static List<Object> buildAll(List<DContextEntryBean> entries) {
     List<Object> list = new ArrayList<>(entries.size());
     for (DContextEntryBean entry : entries) {
       list.add(entry.bean());
@@ -66,8 +248,25 @@ final class DContextEntry {
 
   /**
    * Return a map of beans keyed by qualifier name.
+   * <p>
+   * This is an unmodifiable map when the entry is cacheable.
    */
   Map<String, Object> map() {
+    if (!cacheable) {
+      return buildMap(entries);
+    }
+    Map<String, Object> map = cachedMap;
+    if (map == null) {
+      map = Collections.unmodifiableMap(buildMap(entries));
+      cachedMap = map;
+    }
+    return map;
+  }
+
+  /**
+   * Return the beans of the given entries keyed by qualifier name.
+   */
+  static Map<String, Object> buildMap(List<DContextEntryBean> entries) {
     Map<String, Object> map = new LinkedHashMap<>();
     for (DContextEntryBean entry : entries) {
       Object bean = entry.bean();
@@ -92,6 +291,36 @@ final class DContextEntry {
     return null;
   }
 
+  /**
+   * The resolved match (or failure to resolve) for a given qualifier name.
+   */
+  static final class Resolved {
+
+    private final DContextEntryBean match;
+    private final IllegalStateException error;
+
+    private Resolved(DContextEntryBean match, IllegalStateException error) {
+      this.match = match;
+      this.error = error;
+    }
+
+    static Resolved of(String name, List<DContextEntryBean> entries) {
+      try {
+        return new Resolved(new EntryMatcher(name).findMatch(entries, null), null);
+      } catch (IllegalStateException e) {
+        return new Resolved(null, e);
+      }
+    }
+
+    DContextEntryBean match() {
+      if (error != null) {
+        // thrown from this lookup with the original failure as the cause
+        throw new IllegalStateException(error.getMessage(), error);
+      }
+      return match;
+    }
+  }
+
   static final class EntryMatcher {
 
     private final String name;
@@ -109,26 +338,21 @@ final class DContextEntry {
       }
     }
 
-    private Provider<?> provider(List<DContextEntryBean> entries) {
-      DContextEntryBean match = findMatch(entries);
-      return match == null ? null : match.provider();
-    }
-
-    private Object match(List<DContextEntryBean> entries) {
-      DContextEntryBean match = findMatch(entries);
-      return match == null ? null : match.bean();
-    }
-
-    private DContextEntryBean findMatch(List<DContextEntryBean> entries) {
+    /**
+     * Find the match of the entries visible to the module task (all entries when the task is null).
+     */
+    private DContextEntryBean findMatch(List<DContextEntryBean> entries, ModuleTask task) {
       for (DContextEntryBean entry : entries) {
-        if (entry.isNameMatch(name)) {
+        if (entry.isNameMatch(name) && entry.isVisibleTo(task)) {
           checkMatch(entry);
         }
       }
       if (match == null && impliedName) {
         // search again as if the implied name wasn't there, name = null
         for (DContextEntryBean entry : entries) {
-          checkMatch(entry);
+          if (entry.isVisibleTo(task)) {
+            checkMatch(entry);
+          }
         }
       }
       return candidate();
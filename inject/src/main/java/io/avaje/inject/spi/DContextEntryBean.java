@@ -3,7 +3,9 @@ package io.avaje.inject.spi;
 import io.avaje.inject.BeanEntry;
 
 import jakarta.inject.Provider;
+import java.util.Comparator;
 import java.util.Objects;
+import java.util.concurrent.locks.ReentrantLock;
 
 /**
  * Holds either the bean itself or a provider of the bean.
@@ -36,9 +38,19 @@ class DContextEntryBean {
     return prototype ? new ProtoProvider(provider, name, flag) : new OnceProvider(provider, name, flag);
   }
 
+  /**
+   * Order of registration by module (with beans registered outside a module first).
+   */
+  static final Comparator<DContextEntryBean> ORDER = Comparator
+    .comparingInt((DContextEntryBean bean) -> bean.module)
+    .thenComparingLong(bean -> bean.seq);
+
   protected final Object source;
   protected final String name;
   private final int flag;
+  /** The module that registered this bean when building concurrently (-1 otherwise). */
+  private int module = -1;
+  private long seq;
 
   private DContextEntryBean(Object source, String name, int flag) {
     this.source = source;
@@ -46,6 +58,21 @@ class DContextEntryBean {
     this.flag = flag;
   }
 
+  /**
+   * Set the module and registration sequence when building modules concurrently.
+   */
+  final void order(int module, long seq) {
+    this.module = module;
+    this.seq = seq;
+  }
+
+  /**
+   * Return true if this bean is visible to the module task.
+   */
+  final boolean isVisibleTo(ModuleTask task) {
+    return task == null || task.isVisible(module);
+  }
+
   @Override
   public final String toString() {
     return "Bean{" +
@@ -92,6 +119,20 @@ class DContextEntryBean {
     return this::bean;
   }
 
+  /**
+   * Return true if a new bean instance can be returned on each call to bean().
+   */
+  boolean isPrototype() {
+    return false;
+  }
+
+  /**
+   * Return true if the bean is obtained via a provider (prototype or lazily created).
+   */
+  boolean isProvided() {
+    return false;
+  }
+
   final boolean isPrimary() {
     return flag == BeanEntry.PRIMARY;
   }
@@ -125,6 +166,16 @@ class DContextEntryBean {
       return provider;
     }
 
+    @Override
+    boolean isPrototype() {
+      return true;
+    }
+
+    @Override
+    boolean isProvided() {
+      return true;
+    }
+
     @Override
     Object bean() {
       return provider.get();
@@ -133,24 +184,43 @@ class DContextEntryBean {
 
   /**
    * Single instance scoped Provider based entry.
+   * <p>
+   * Once the bean is created it is read without locking. The lock is only
+   * used to create the bean and is a ReentrantLock rather than synchronized
+   * to avoid pinning virtual threads.
    */
   static final class OnceProvider extends DContextEntryBean {
 
+    private final ReentrantLock lock = new ReentrantLock();
     private final Provider<?> provider;
-    private Object bean;
+    private volatile Object bean;
 
     private OnceProvider(Provider<?> provider, String name, int flag) {
       super(provider, name, flag);
       this.provider = provider;
     }
 
+    @Override
+    boolean isProvided() {
+      return true;
+    }
+
     @Override
     Object bean() {
-      synchronized (this) {
-        if (bean == null) {
-          bean = provider.get();
+      Object result = bean;
+      if (result != null) {
+        return result;
+      }
+      lock.lock();
+      try {
+        result = bean;
+        if (result == null) {
+          result = provider.get();
+          bean = result;
         }
-        return bean;
+        return result;
+      } finally {
+        lock.unlock();
       }
     }
   }
@@ -7,12 +7,38 @@ import java.lang.reflect.Type;
  */
 final class KeyUtil {
 
+  /**
+   * Return the name in lower case.
+   * <p>
+   * Generated code passes qualifier names that are already in lower case and these
+   * are returned as is without allocation.
+   */
   static String lower(String name) {
-    return name == null ? null : name.toLowerCase();
+    if (name == null || isLower(name)) {
+      return name;
+    }
+    return name.toLowerCase();
+  }
+
+  private static boolean isLower(String name) {
+    for (int i = 0, len = name.length(); i < len; i++) {
+      final char ch = name.charAt(i);
+      if (ch >= 'A' && ch <= 'Z' || ch > 127) {
+        return false;
+      }
+    }
+    return true;
   }
 
   static String key(Type type, String name) {
     return name == null ? type.getTypeName() : type.getTypeName() + "|" + name;
   }
 
+  /**
+   * Return the type to use as a lookup key unwrapping GenericType.
+   */
+  static Type canonical(Type type) {
+    return type instanceof GenericType ? ((GenericType<?>) type).type() : type;
+  }
+
 }
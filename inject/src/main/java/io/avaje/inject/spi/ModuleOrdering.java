@@ -0,0 +1,19 @@
+package io.avaje.inject.spi;
+
+import java.util.List;
+
+/**
+ * The modules of an application in build order.
+ * <p>
+ * This is generated at compile time for a module with {@code @InjectModule(moduleOrdering = true)}
+ * from the modules detected on the classpath. Using it via
+ * {@link io.avaje.inject.BeanScopeBuilder#moduleOrdering(ModuleOrdering)} skips service loading
+ * and ordering the modules when the bean scope is built.
+ */
+public interface ModuleOrdering {
+
+  /**
+   * Return the modules in the order they should be built.
+   */
+  List<Module> modules();
+}
@@ -0,0 +1,77 @@
+package io.avaje.inject.spi;
+
+import io.avaje.inject.BeanScope;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * The state of a module being built concurrently with other modules.
+ * <p>
+ * This holds the next bean being registered and the lifecycle methods and
+ * injectors added by the module. The lifecycle methods and injectors are added
+ * to the builder in module order once all the modules have been built.
+ */
+final class ModuleTask {
+
+  private final int module;
+  private final BitSet visible;
+  final List<Runnable> postConstruct = new ArrayList<>();
+  final List<Consumer<BeanScope>> postConstructConsumers = new ArrayList<>();
+  final List<ClosePair> preDestroy = new ArrayList<>();
+  final List<Consumer<Builder>> injectors = new ArrayList<>();
+  DBeanMap.NextBean nextBean;
+  /** The registration sequence reserved for a bean built concurrently (-1 otherwise). */
+  long seq = -1;
+
+  /**
+   * Create for the module given the modules whose beans are visible to it.
+   *
+   * @param module  The index of the module in the (sequential) build order
+   * @param visible The indexes of this module and the modules it depends on
+   */
+  ModuleTask(int module, BitSet visible) {
+    this.module = module;
+    this.visible = visible;
+  }
+
+  /**
+   * Create for a bean of the module built concurrently with other beans of the module.
+   *
+   * @param moduleTask The task of the module the bean belongs to
+   * @param seq        The start of the registration sequence reserved for the bean
+   */
+  ModuleTask(ModuleTask moduleTask, long seq) {
+    this(moduleTask.module, moduleTask.visible);
+    this.seq = seq;
+  }
+
+  /**
+   * Add the lifecycle methods and injectors of the other task to this task.
+   */
+  void addAll(ModuleTask other) {
+    postConstruct.addAll(other.postConstruct);
+    postConstructConsumers.addAll(other.postConstructConsumers);
+    preDestroy.addAll(other.preDestroy);
+    injectors.addAll(other.injectors);
+  }
+
+  int module() {
+    return module;
+  }
+
+  BitSet visible() {
+    return visible;
+  }
+
+  /**
+   * Return true if beans registered by the given module are visible to this module.
+   * <p>
+   * Beans registered outside of a module (supplied beans) are always visible.
+   */
+  boolean isVisible(int registeredBy) {
+    return registeredBy < 0 || visible.get(registeredBy);
+  }
+}
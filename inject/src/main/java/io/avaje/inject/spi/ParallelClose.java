@@ -0,0 +1,177 @@
+package io.avaje.inject.spi;
+
+import io.avaje.applog.AppLog;
+
+import java.lang.System.Logger.Level;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Closes the PreDestroy closeables concurrently within each priority band.
+ * <p>
+ * Bands are closed in priority order as with a sequential close. Each band is given
+ * up to the band timeout (bounded by the overall deadline) after which the closeables
+ * that have not completed are reported and interrupted. The next band is only closed
+ * once the closeables of the prior band have stopped such that the band ordering holds.
+ * Once the overall deadline has passed the closeables of the remaining bands are
+ * reported and not closed.
+ */
+final class ParallelClose {
+
+  private static final System.Logger log = AppLog.getLogger("io.avaje.inject");
+
+  private final Supplier<ExecutorService> executor;
+  private final Duration bandTimeout;
+  private final Duration timeout;
+
+  ParallelClose(Supplier<ExecutorService> executor, Duration bandTimeout, Duration timeout) {
+    this.executor = executor;
+    this.bandTimeout = bandTimeout;
+    this.timeout = timeout;
+  }
+
+  /**
+   * Close the closeables which are sorted by priority.
+   *
+   * @return The closeables that did not complete within the deadlines (or were not closed)
+   */
+  List<ClosePair> close(List<ClosePair> preDestroy) {
+    final List<ClosePair> overran = new ArrayList<>();
+    if (preDestroy.isEmpty()) {
+      return overran;
+    }
+    final long deadline = System.nanoTime() + timeout.toNanos();
+    final ExecutorService service = executor.get();
+    try {
+      int start = 0;
+      while (start < preDestroy.size()) {
+        final int priority = preDestroy.get(start).priority();
+        int end = start + 1;
+        while (end < preDestroy.size() && preDestroy.get(end).priority() == priority) {
+          end++;
+        }
+        final List<ClosePair> band = preDestroy.subList(start, end);
+        final long remaining = deadline - System.nanoTime();
+        if (remaining <= 0) {
+          final List<ClosePair> notClosed = preDestroy.subList(start, preDestroy.size());
+          log.log(Level.ERROR, "PreDestroy exceeded timeout {0}, not closing {1}", timeout, notClosed);
+          overran.addAll(notClosed);
+          break;
+        }
+        final CountDownLatch stopped = new CountDownLatch(band.size());
+        final List<ClosePair> bandOverran = closeBand(service, band, stopped, Math.min(remaining, bandTimeout.toNanos()));
+        overran.addAll(bandOverran);
+        start = end;
+        if (!bandOverran.isEmpty() && !await(stopped, deadline - System.nanoTime())) {
+          final List<ClosePair> notClosed = preDestroy.subList(start, preDestroy.size());
+          if (!notClosed.isEmpty()) {
+            log.log(Level.ERROR, "PreDestroy exceeded timeout {0} with priority {1} still running, not closing {2}",
+              timeout, String.valueOf(priority), notClosed);
+            overran.addAll(notClosed);
+          }
+          break;
+        }
+      }
+    } finally {
+      service.shutdownNow();
+    }
+    return overran;
+  }
+
+  private List<ClosePair> closeBand(ExecutorService service, List<ClosePair> band, CountDownLatch stopped, long timeoutNanos) {
+    final List<CloseTask> tasks = new ArrayList<>(band.size());
+    for (ClosePair pair : band) {
+      final CloseTask task = new CloseTask(pair, stopped);
+      task.future = service.submit(task);
+      tasks.add(task);
+    }
+    if (await(stopped, timeoutNanos)) {
+      return List.of();
+    }
+    final List<ClosePair> overran = new ArrayList<>();
+    for (CloseTask task : tasks) {
+      if (task.cancel()) {
+        overran.add(task.pair);
+      }
+    }
+    if (!overran.isEmpty()) {
+      log.log(Level.WARNING, "PreDestroy with priority {0} did not complete within {1}ms, interrupted {2}",
+        String.valueOf(band.get(0).priority()), String.valueOf(TimeUnit.NANOSECONDS.toMillis(timeoutNanos)), overran);
+    }
+    return overran;
+  }
+
+  private static boolean await(CountDownLatch stopped, long timeoutNanos) {
+    try {
+      return stopped.await(timeoutNanos, TimeUnit.NANOSECONDS);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      return false;
+    }
+  }
+
+  private static void close(AutoCloseable closeable) {
+    try {
+      closeable.close();
+    } catch (final Exception e) {
+      log.log(Level.ERROR, "Error during PreDestroy lifecycle method", e);
+    }
+  }
+
+  /**
+   * Closes a closeable counting down the band latch once it has stopped.
+   */
+  private static final class CloseTask implements Runnable {
+
+    private static final int NEW = 0;
+    private static final int RUNNING = 1;
+    private static final int COMPLETED = 2;
+    private static final int CANCELLED = 3;
+
+    private final ClosePair pair;
+    private final CountDownLatch stopped;
+    private final AtomicInteger state = new AtomicInteger(NEW);
+    private Future<?> future;
+
+    CloseTask(ClosePair pair, CountDownLatch stopped) {
+      this.pair = pair;
+      this.stopped = stopped;
+    }
+
+    @Override
+    public void run() {
+      if (state.compareAndSet(NEW, RUNNING)) {
+        try {
+          close(pair.closeable());
+        } finally {
+          state.compareAndSet(RUNNING, COMPLETED);
+          stopped.countDown();
+        }
+      }
+    }
+
+    /**
+     * Cancel the task returning true when it had not completed (and will not complete).
+     */
+    boolean cancel() {
+      if (state.compareAndSet(NEW, CANCELLED)) {
+        // never started so will not run
+        stopped.countDown();
+        return true;
+      }
+      if (state.compareAndSet(RUNNING, CANCELLED)) {
+        // interrupt the running close
+        future.cancel(true);
+        return true;
+      }
+      return false;
+    }
+  }
+}
@@ -0,0 +1,255 @@
+package io.avaje.inject.spi;
+
+import io.avaje.inject.BeanScope;
+
+import java.lang.reflect.Type;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+
+/**
+ * Runs the PostConstruct methods of beans concurrently respecting the dependencies
+ * between the beans.
+ * <p>
+ * While building, the beans that each bean obtains from the builder are recorded along
+ * with the PostConstruct methods and injectors added for each bean. A bean's PostConstruct
+ * methods run after those of the beans it depends on that were registered before it.
+ * Dependencies on beans registered later (for example circular dependencies via field
+ * injection) are not ordered, just as with a sequential start.
+ * <p>
+ * PostConstruct methods that are not added for a bean run sequentially after those of
+ * the beans have completed.
+ */
+final class ParallelPostConstruct {
+
+  private final ReentrantLock lock = new ReentrantLock();
+  private final Executor executor;
+  private final Duration timeout;
+  private final Map<DBeanMap.NextBean, Node> nodes = new IdentityHashMap<>();
+  private final List<Node> nodeList = new ArrayList<>();
+  /** Registered bean instance to the node of the bean. */
+  private final Map<Object, Node> beans = new IdentityHashMap<>();
+  /** PostConstruct methods and injectors to the node of the bean they were added for. */
+  private final Map<Object, Node> owners = new IdentityHashMap<>();
+
+  ParallelPostConstruct(Executor executor, Duration timeout) {
+    this.executor = executor;
+    this.timeout = timeout;
+  }
+
+  private Node node(DBeanMap.NextBean next) {
+    return nodes.computeIfAbsent(next, n -> {
+      final Node node = new Node(nodeList.size(), n);
+      nodeList.add(node);
+      return node;
+    });
+  }
+
+  /**
+   * Register the bean instance for the bean being built.
+   */
+  void registered(DBeanMap.NextBean next, Object bean) {
+    if (next == null || bean == null) {
+      return;
+    }
+    lock.lock();
+    try {
+      beans.put(bean, node(next));
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  /**
+   * Record that the bean being built depends on the given bean instance.
+   */
+  void dependsOn(DBeanMap.NextBean next, Object bean) {
+    if (next == null || bean == null) {
+      return;
+    }
+    lock.lock();
+    try {
+      final Node dependency = beans.get(bean);
+      if (dependency != null) {
+        node(next).dependsOn(dependency);
+      }
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  /**
+   * Record the PostConstruct method or injector as added for the bean being built.
+   */
+  void owner(DBeanMap.NextBean next, Object callback) {
+    if (next == null) {
+      return;
+    }
+    lock.lock();
+    try {
+      owners.put(callback, node(next));
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  /**
+   * Return the bean that the injector was added for (or null).
+   */
+  DBeanMap.NextBean ownerOf(Object injector) {
+    lock.lock();
+    try {
+      final Node node = owners.get(injector);
+      return node == null ? null : node.next;
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  /**
+   * Run the PostConstruct methods waiting up to the timeout for those of the beans.
+   */
+  void run(List<Runnable> postConstruct, List<Consumer<BeanScope>> postConstructConsumers, BeanScope scope) {
+    final List<Runnable> unowned = new ArrayList<>();
+    for (Runnable invoke : postConstruct) {
+      final Node node = owners.get(invoke);
+      if (node == null) {
+        unowned.add(invoke);
+      } else {
+        node.postConstruct.add(invoke);
+      }
+    }
+    final List<Consumer<BeanScope>> unownedConsumers = new ArrayList<>();
+    for (Consumer<BeanScope> consumer : postConstructConsumers) {
+      final Node node = owners.get(consumer);
+      if (node == null) {
+        unownedConsumers.add(consumer);
+      } else {
+        node.postConstructConsumers.add(consumer);
+      }
+    }
+    runBeans(scope);
+    for (Runnable invoke : unowned) {
+      invoke.run();
+    }
+    for (Consumer<BeanScope> consumer : unownedConsumers) {
+      consumer.accept(scope);
+    }
+  }
+
+  private void runBeans(BeanScope scope) {
+    final List<Throwable> failures = Collections.synchronizedList(new ArrayList<>());
+    final CompletableFuture<?>[] futures = new CompletableFuture<?>[nodeList.size()];
+    // dependencies always have a lower index such that their futures already exist
+    for (int i = 0; i < futures.length; i++) {
+      final Node node = nodeList.get(i);
+      final CompletableFuture<?>[] dependencies = new CompletableFuture<?>[node.dependsOn.size()];
+      for (int j = 0; j < dependencies.length; j++) {
+        dependencies[j] = node.dependsOn.get(j).done;
+      }
+      final CompletableFuture<Void> after = CompletableFuture.allOf(dependencies);
+      node.done = node.isEmpty() ? after : after.thenRunAsync(() -> node.run(scope, failures), executor);
+      futures[i] = node.done;
+    }
+    try {
+      CompletableFuture.allOf(futures).get(timeout.toMillis(), TimeUnit.MILLISECONDS);
+    } catch (ExecutionException e) {
+      // failures collected below
+    } catch (TimeoutException e) {
+      throw new IllegalStateException("PostConstruct methods did not complete within " + timeout + " for beans " + pending());
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IllegalStateException("Interrupted waiting for PostConstruct methods", e);
+    }
+    throwFailures(failures);
+  }
+
+  private List<String> pending() {
+    final List<String> pending = new ArrayList<>();
+    for (Node node : nodeList) {
+      if (!node.isEmpty() && !node.done.isDone()) {
+        pending.add(node.toString());
+      }
+    }
+    return pending;
+  }
+
+  private static void throwFailures(List<Throwable> failures) {
+    if (failures.isEmpty()) {
+      return;
+    }
+    final Throwable first = failures.get(0);
+    if (failures.size() == 1) {
+      if (first instanceof RuntimeException) {
+        throw (RuntimeException) first;
+      } else if (first instanceof Error) {
+        throw (Error) first;
+      }
+    }
+    final IllegalStateException e = new IllegalStateException("PostConstruct failed for " + failures.size() + " beans", first);
+    for (int i = 1; i < failures.size(); i++) {
+      e.addSuppressed(failures.get(i));
+    }
+    throw e;
+  }
+
+  /**
+   * A bean with its dependencies and PostConstruct methods.
+   */
+  private static final class Node {
+
+    final int index;
+    final DBeanMap.NextBean next;
+    final List<Node> dependsOn = new ArrayList<>();
+    final List<Runnable> postConstruct = new ArrayList<>();
+    final List<Consumer<BeanScope>> postConstructConsumers = new ArrayList<>();
+    CompletableFuture<Void> done;
+
+    Node(int index, DBeanMap.NextBean next) {
+      this.index = index;
+      this.next = next;
+    }
+
+    void dependsOn(Node dependency) {
+      if (dependency.index < index && !dependsOn.contains(dependency)) {
+        dependsOn.add(dependency);
+      }
+    }
+
+    boolean isEmpty() {
+      return postConstruct.isEmpty() && postConstructConsumers.isEmpty();
+    }
+
+    void run(BeanScope scope, List<Throwable> failures) {
+      try {
+        for (Runnable invoke : postConstruct) {
+          invoke.run();
+        }
+        for (Consumer<BeanScope> consumer : postConstructConsumers) {
+          consumer.accept(scope);
+        }
+      } catch (RuntimeException | Error e) {
+        // dependent beans are skipped
+        failures.add(e);
+        throw e;
+      }
+    }
+
+    @Override
+    public String toString() {
+      final Type[] types = next.types;
+      final String type = types == null || types.length == 0 ? "?" : types[0].getTypeName();
+      return next.name == null ? type : type + ":" + next.name;
+    }
+  }
+}
@@ -0,0 +1,216 @@
+package io.avaje.inject.spi;
+
+import io.avaje.inject.BeanHandle;
+import io.avaje.inject.BeanScope;
+
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Flattened view of the parent scopes of a BeanScope used to resolve beans that are
+ * not in the child scope.
+ * <p>
+ * The bean maps of all the parent scopes are resolved for a given type once (lazily on
+ * first use) and cached, such that resolving beans across the parents is a single lookup
+ * rather than a walk through each parent scope.
+ * <p>
+ * The combined list and map of beans (child scope beans followed by those of the
+ * parents) are cached as unmodifiable collections when all the contributing entries
+ * are cacheable.
+ */
+final class ParentChain {
+
+  private static final DContextEntry[] NONE = new DContextEntry[0];
+
+  /** The bean maps of the parent scopes, nearest parent first. */
+  private final DBeanMap[] maps;
+  /** The first parent that is not a DBeanScope (if any), resolved via its public API. */
+  private final BeanScope tail;
+  private final Map<Type, DContextEntry[]> entryCache = new ConcurrentHashMap<>();
+  private final Map<Type, List<Object>> listCache = new ConcurrentHashMap<>();
+  private final Map<Type, Map<String, Object>> mapCache = new ConcurrentHashMap<>();
+
+  private ParentChain(DBeanMap[] maps, BeanScope tail) {
+    this.maps = maps;
+    this.tail = tail;
+  }
+
+  /**
+   * Create for the given parent scope (which may be null).
+   */
+  static ParentChain of(BeanScope parent) {
+    if (parent == null) {
+      return null;
+    }
+    final List<DBeanMap> maps = new ArrayList<>();
+    BeanScope scope = parent;
+    while (scope instanceof DBeanScope) {
+      final DBeanScope dScope = (DBeanScope) scope;
+      maps.add(dScope.beanMap());
+      scope = dScope.parent();
+    }
+    return new ParentChain(maps.toArray(new DBeanMap[0]), scope);
+  }
+
+  /**
+   * Return the entries for the type from all the parents (nearest first).
+   */
+  private DContextEntry[] entries(Type type) {
+    final Type key = KeyUtil.canonical(type);
+    DContextEntry[] entries = entryCache.get(key);
+    if (entries == null) {
+      entries = resolve(key);
+      entryCache.put(key, entries);
+    }
+    return entries;
+  }
+
+  private DContextEntry[] resolve(Type type) {
+    final List<DContextEntry> list = new ArrayList<>(maps.length);
+    for (DBeanMap map : maps) {
+      final DContextEntry entry = map.entry(type);
+      if (entry != null) {
+        list.add(entry);
+      }
+    }
+    return list.isEmpty() ? NONE : list.toArray(NONE);
+  }
+
+  /**
+   * Return the bean or throw NoSuchElementException if not found.
+   */
+  <T> T get(Type type, String name) {
+    final T bean = find(type, name);
+    if (bean != null) {
+      return bean;
+    }
+    if (tail == null) {
+      throw new NoSuchElementException("No bean found for type: " + type + " name: " + name);
+    }
+    return tail.get(type, name);
+  }
+
+  /**
+   * Return the bean or null if not found.
+   */
+  <T> T getMaybe(Type type, String name) {
+    final T bean = find(type, name);
+    if (bean != null || tail == null) {
+      return bean;
+    }
+    return tail.<T>getOptional(type, name).orElse(null);
+  }
+
+  /**
+   * Return a handle to the bean or throw NoSuchElementException if not found.
+   */
+  <T> BeanHandle<T> handle(Type type, String name) {
+    final DContextEntry[] entries = entries(type);
+    final String lowerName = KeyUtil.lower(name);
+    for (DContextEntry entry : entries) {
+      final DContextEntryBean entryBean = entry.entryBean(lowerName);
+      if (entryBean != null) {
+        return DBeanHandle.of(entryBean);
+      }
+    }
+    if (tail == null) {
+      throw new NoSuchElementException("No bean found for type: " + type + " name: " + name);
+    }
+    return tail.handle(type, name);
+  }
+
+  @SuppressWarnings("unchecked")
+  private <T> T find(Type type, String name) {
+    final DContextEntry[] entries = entries(type);
+    if (entries.length == 0) {
+      return null;
+    }
+    final String lowerName = KeyUtil.lower(name);
+    for (DContextEntry entry : entries) {
+      final Object bean = entry.get(lowerName);
+      if (bean != null) {
+        return (T) bean;
+      }
+    }
+    return null;
+  }
+
+  /**
+   * Return true if the combined beans for the type are invariant and can be cached.
+   */
+  boolean cacheable(Type type, DContextEntry local) {
+    return cacheable(local, entries(type));
+  }
+
+  private boolean cacheable(DContextEntry local, DContextEntry[] entries) {
+    if (tail != null || (local != null && !local.isCacheable())) {
+      return false;
+    }
+    for (DContextEntry entry : entries) {
+      if (!entry.isCacheable()) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /**
+   * Return the list of beans for the type from the child scope entry followed by the parents.
+   */
+  List<Object> list(Type type, DContextEntry local) {
+    final Type key = KeyUtil.canonical(type);
+    List<Object> list = listCache.get(key);
+    if (list != null) {
+      return list;
+    }
+    final DContextEntry[] entries = entries(key);
+    list = new ArrayList<>();
+    if (local != null) {
+      list.addAll(local.all());
+    }
+    for (DContextEntry entry : entries) {
+      list.addAll(entry.all());
+    }
+    if (tail != null) {
+      list.addAll(tail.list(type));
+    }
+    if (cacheable(local, entries)) {
+      list = Collections.unmodifiableList(list);
+      listCache.put(key, list);
+    }
+    return list;
+  }
+
+  /**
+   * Return a map of the beans for the type keyed by qualifier name.
+   * <p>
+   * Beans in the child scope and nearer parents replace beans with the same name
+   * from further parents.
+   */
+  Map<String, Object> map(Type type, DContextEntry local) {
+    final Type key = KeyUtil.canonical(type);
+    Map<String, Object> result = mapCache.get(key);
+    if (result != null) {
+      return result;
+    }
+    final DContextEntry[] entries = entries(key);
+    result = tail == null ? new LinkedHashMap<>() : new LinkedHashMap<>(tail.map(type));
+    for (int i = entries.length - 1; i >= 0; i--) {
+      result.putAll(entries[i].map());
+    }
+    if (local != null) {
+      result.putAll(local.map());
+    }
+    if (cacheable(local, entries)) {
+      result = Collections.unmodifiableMap(result);
+      mapCache.put(key, result);
+    }
+    return result;
+  }
+}
@@ -7,28 +7,59 @@ import java.util.function.Consumer;
 
 /**
  * Provides late binding of Provider (like field/setter injection).
+ * <p>
+ * The promise is bound to the resolved provider at the end of build after which
+ * the builder is no longer referenced. Prior to that it looks up the bean via the
+ * builder such that it can be used by beans created during wiring.
  */
 final class ProviderPromise<T> implements Provider<T>, Consumer<Builder> {
 
+  private final Class<?> cls;
   private final Type type;
   private final String name;
-  private final DBuilder builder;
-  private Provider<T> provider;
+  private final Type target;
+  private volatile DBuilder builder;
+  private volatile Provider<T> provider;
 
-  ProviderPromise(Type type, String name, DBuilder builder) {
+  ProviderPromise(Type type, String name, Type target, DBuilder builder) {
+    this.cls = null;
     this.type = type;
     this.name = name;
+    this.target = target;
+    this.builder = builder;
+  }
+
+  /**
+   * Create for a generic type usually provided by the given class.
+   */
+  ProviderPromise(Class<?> cls, Type type, DBuilder builder) {
+    this.cls = cls;
+    this.type = type;
+    this.name = null;
+    this.target = null;
     this.builder = builder;
   }
 
   @Override
   public void accept(Builder _builder) {
-    this.provider = builder.obtainProvider(type, name);
+    // the provider is published before the builder is cleared
+    this.provider = cls == null ? builder.obtainProvider(type, name, target) : builder.obtainProviderFor(cls, type);
+    this.builder = null;
   }
 
   @Override
   public T get() {
-    return provider.get();
+    final Provider<T> bound = provider;
+    if (bound != null) {
+      return bound.get();
+    }
+    final DBuilder wiring = builder;
+    if (wiring == null) {
+      // bound concurrently since reading the provider
+      return provider.get();
+    }
+    // not yet bound, a bean (like a prototype) being created during wiring
+    return cls == null ? wiring.get(type, name) : wiring.<T>obtainProviderFor(cls, type).get();
   }
 
 }
@@ -0,0 +1,281 @@
+package io.avaje.inject.spi;
+
+import io.avaje.inject.BeanScope;
+import io.avaje.inject.WiringProfile;
+
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+/**
+ * Records the time spent wiring the scope by phase, module and bean.
+ * <p>
+ * Beans are timed from {@code isAddBeanFor()} through to being registered plus their
+ * injectors. The PostConstruct methods, injectors and PreDestroy methods added while
+ * building a bean are wrapped to add their time to the bean (and its module).
+ */
+final class WiringProfiler implements WiringProfile {
+
+  private static final Comparator<DTiming> BY_TOTAL =
+    Comparator.comparingLong(DTiming::totalNanos).reversed().thenComparing(DTiming::name);
+
+  private final Map<String, Long> phases = new LinkedHashMap<>();
+  private final List<DTiming> modules = new ArrayList<>();
+  private final Queue<DTiming> beans = new ConcurrentLinkedQueue<>();
+
+  /**
+   * Create with the times of the phases prior to building the modules.
+   */
+  WiringProfiler(Map<String, Duration> phases) {
+    phases.forEach((name, time) -> this.phases.put(name, time.toNanos()));
+  }
+
+  /**
+   * Add the time spent in the given phase.
+   */
+  void phase(String name, long nanos) {
+    synchronized (phases) {
+      phases.merge(name, nanos, Long::sum);
+    }
+  }
+
+  /**
+   * Add the modules in build order such that they can be obtained by index.
+   */
+  void modules(List<Module> buildOrder) {
+    for (Module module : buildOrder) {
+      modules.add(new DTiming(module.getClass().getTypeName(), null));
+    }
+  }
+
+  /**
+   * Return the timing of the module given its index in the build order.
+   */
+  DTiming module(int index) {
+    return modules.get(index);
+  }
+
+  /**
+   * Return a new timing for a bean of the given module (which can be null).
+   */
+  DTiming bean(DBeanMap.NextBean next, DTiming module) {
+    final DTiming timing = new DTiming(beanName(next), module);
+    beans.add(timing);
+    return timing;
+  }
+
+  private static String beanName(DBeanMap.NextBean next) {
+    final String type = next.types == null || next.types.length == 0 ? "?" : next.types[0].getTypeName();
+    return next.name == null ? type : type + ":" + next.name;
+  }
+
+  @Override
+  public Map<String, Duration> phases() {
+    final Map<String, Duration> map = new LinkedHashMap<>();
+    synchronized (phases) {
+      phases.forEach((name, nanos) -> map.put(name, Duration.ofNanos(nanos)));
+    }
+    return map;
+  }
+
+  @Override
+  public List<Timing> modules() {
+    return sorted(modules);
+  }
+
+  @Override
+  public List<Timing> beans() {
+    return sorted(beans);
+  }
+
+  private static List<Timing> sorted(Collection<DTiming> timings) {
+    final List<DTiming> sorted = new ArrayList<>(timings);
+    sorted.sort(BY_TOTAL);
+    return new ArrayList<>(sorted);
+  }
+
+  @Override
+  public String report() {
+    return report(Integer.MAX_VALUE);
+  }
+
+  @Override
+  public String report(int maxBeans) {
+    final StringBuilder sb = new StringBuilder(1000);
+    sb.append("Wiring profile\nphases:\n");
+    phases().forEach((name, time) -> sb.append(String.format(Locale.ROOT, "  %-14s %s%n", name, millis(time.toNanos()))));
+    final List<Timing> beanList = beans();
+    sb.append("modules:\n");
+    appendTimings(sb, modules(), Integer.MAX_VALUE);
+    sb.append("beans");
+    if (beanList.size() > maxBeans) {
+      sb.append(" (top ").append(maxBeans).append(" of ").append(beanList.size()).append(')');
+    }
+    sb.append(":\n");
+    appendTimings(sb, beanList, maxBeans);
+    return sb.toString();
+  }
+
+  private static void appendTimings(StringBuilder sb, List<Timing> timings, int max) {
+    sb.append(String.format(Locale.ROOT, "  %12s %12s %14s %12s  %s%n", "total", "construct", "postConstruct", "preDestroy", "name"));
+    for (int i = 0; i < timings.size() && i < max; i++) {
+      final DTiming timing = (DTiming) timings.get(i);
+      sb.append(String.format(Locale.ROOT, "  %12s %12s %14s %12s  %s%n",
+        millis(timing.totalNanos()), millis(timing.construct.get()), millis(timing.postConstruct.get()),
+        millis(timing.preDestroy.get()), timing.name));
+    }
+  }
+
+  private static String millis(long nanos) {
+    return String.format(Locale.ROOT, "%.3fms", nanos / 1_000_000d);
+  }
+
+  @Override
+  public String toString() {
+    return report(20);
+  }
+
+  /**
+   * The times of a module or bean where the PostConstruct and PreDestroy times of
+   * a bean are also added to its module.
+   */
+  static final class DTiming implements Timing {
+
+    private final String name;
+    private final DTiming module;
+    private final AtomicLong construct = new AtomicLong();
+    private final AtomicLong postConstruct = new AtomicLong();
+    private final AtomicLong preDestroy = new AtomicLong();
+
+    DTiming(String name, DTiming module) {
+      this.name = name;
+      this.module = module;
+    }
+
+    void addConstruct(long nanos) {
+      construct.addAndGet(nanos);
+    }
+
+    private void addInjection(long nanos) {
+      construct.addAndGet(nanos);
+      if (module != null) {
+        // not included in the time building the module
+        module.addConstruct(nanos);
+      }
+    }
+
+    private void addPostConstruct(long nanos) {
+      postConstruct.addAndGet(nanos);
+      if (module != null) {
+        module.addPostConstruct(nanos);
+      }
+    }
+
+    private void addPreDestroy(long nanos) {
+      preDestroy.addAndGet(nanos);
+      if (module != null) {
+        module.addPreDestroy(nanos);
+      }
+    }
+
+    /**
+     * Return the PostConstruct method adding its time to this timing.
+     */
+    Runnable postConstruct(Runnable invoke) {
+      return () -> {
+        final long start = System.nanoTime();
+        try {
+          invoke.run();
+        } finally {
+          addPostConstruct(System.nanoTime() - start);
+        }
+      };
+    }
+
+    /**
+     * Return the PostConstruct method adding its time to this timing.
+     */
+    Consumer<BeanScope> postConstructConsumer(Consumer<BeanScope> consumer) {
+      return scope -> {
+        final long start = System.nanoTime();
+        try {
+          consumer.accept(scope);
+        } finally {
+          addPostConstruct(System.nanoTime() - start);
+        }
+      };
+    }
+
+    /**
+     * Return the injector adding its time to the construct time of this timing.
+     */
+    Consumer<Builder> injector(Consumer<Builder> injector) {
+      return builder -> {
+        final long start = System.nanoTime();
+        try {
+          injector.accept(builder);
+        } finally {
+          addInjection(System.nanoTime() - start);
+        }
+      };
+    }
+
+    /**
+     * Return the PreDestroy method adding its time to this timing.
+     */
+    AutoCloseable preDestroy(AutoCloseable closeable) {
+      return new AutoCloseable() {
+        @Override
+        public void close() throws Exception {
+          final long start = System.nanoTime();
+          try {
+            closeable.close();
+          } finally {
+            addPreDestroy(System.nanoTime() - start);
+          }
+        }
+
+        @Override
+        public String toString() {
+          return closeable.toString();
+        }
+      };
+    }
+
+    long totalNanos() {
+      return construct.get() + postConstruct.get() + preDestroy.get();
+    }
+
+    @Override
+    public String name() {
+      return name;
+    }
+
+    @Override
+    public Duration construct() {
+      return Duration.ofNanos(construct.get());
+    }
+
+    @Override
+    public Duration postConstruct() {
+      return Duration.ofNanos(postConstruct.get());
+    }
+
+    @Override
+    public Duration preDestroy() {
+      return Duration.ofNanos(preDestroy.get());
+    }
+
+    @Override
+    public Duration total() {
+      return Duration.ofNanos(totalNanos());
+    }
+
+    @Override
+    public String toString() {
+      return name + " " + millis(totalNanos());
+    }
+  }
+}
@@ -0,0 +1,73 @@
+package io.avaje.inject.aop;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class InterceptorChainTest {
+
+  private final MethodInterceptor one = Invocation::invoke;
+  private final MethodInterceptor two = Invocation::invoke;
+
+  @Test
+  void nullInterceptors_dropped() {
+    InterceptorChain chain = InterceptorChain.of(null, one, null, two);
+    assertThat(chain.interceptors()).containsExactly(one, two);
+  }
+
+  @Test
+  void allNull_noInterceptors() {
+    assertThat(InterceptorChain.of(null, null).interceptors()).isNull();
+    assertThat(InterceptorChain.of().interceptors()).isNull();
+  }
+
+  @Test
+  void switched() {
+    InterceptorSwitch enabled = new InterceptorSwitch(false);
+    InterceptorChain chain = InterceptorChain.of(one, enabled.wrap(two));
+    InterceptorChain onlySwitched = InterceptorChain.of(null, enabled.wrap(two));
+    assertThat(chain.interceptors()).containsExactly(one);
+    assertThat(onlySwitched.interceptors()).isNull();
+
+    enabled.enabled(true);
+    assertThat(enabled.enabled()).isTrue();
+    assertThat(chain.interceptors()).containsExactly(one, two);
+    assertThat(onlySwitched.interceptors()).containsExactly(two);
+    // unchanged so the same interceptors are returned
+    assertThat(chain.interceptors()).isSameAs(chain.interceptors());
+
+    enabled.enabled(false);
+    assertThat(chain.interceptors()).containsExactly(one);
+    assertThat(onlySwitched.interceptors()).isNull();
+  }
+
+  @Test
+  void switched_otherSwitchChanged_expect_notRefreshed() {
+    InterceptorSwitch enabled = new InterceptorSwitch(true);
+    InterceptorSwitch other = new InterceptorSwitch(false);
+    InterceptorChain chain = InterceptorChain.of(one, enabled.wrap(two));
+    MethodInterceptor[] interceptors = chain.interceptors();
+
+    other.enabled(true);
+    other.enabled(false);
+    assertThat(chain.interceptors()).isSameAs(interceptors);
+
+    enabled.enabled(false);
+    assertThat(chain.interceptors()).containsExactly(one);
+  }
+
+  @Test
+  void switched_invokedOutsideChain() throws Throwable {
+    StringBuilder trace = new StringBuilder();
+    InterceptorSwitch enabled = new InterceptorSwitch(false);
+    MethodInterceptor interceptor = enabled.wrap(invocation -> {
+      trace.append("intercepted ");
+      invocation.invoke();
+    });
+    Invocation.Run call = new Invocation.Run(() -> trace.append("run "));
+    interceptor.invoke(call);
+    enabled.enabled(true);
+    interceptor.invoke(call);
+    assertThat(trace.toString()).isEqualTo("run intercepted run ");
+  }
+}
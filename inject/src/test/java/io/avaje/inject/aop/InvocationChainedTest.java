@@ -0,0 +1,220 @@
+package io.avaje.inject.aop;
+
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class InvocationChainedTest {
+
+  private final List<String> trace = new ArrayList<>();
+  private final List<Object> results = new ArrayList<>();
+  private final List<Object> args = new ArrayList<>();
+
+  private final Method doStuffMethod;
+  private final Object myArg = new Object();
+  private int created;
+
+  InvocationChainedTest() {
+    try {
+      doStuffMethod = InvocationChainedTest.class.getDeclaredMethod("doStuff", Object.class);
+    } catch (NoSuchMethodException e) {
+      throw new RuntimeException(e);
+    }
+  }
+
+  String doStuff(Object arg) {
+    trace.add("doStuff");
+    return "hello";
+  }
+
+  final class DoStuffCall extends Invocation.Chained<String> {
+
+    private final Object arg;
+
+    DoStuffCall(MethodInterceptor[] chain, Object arg) {
+      super(InvocationChainedTest.this, doStuffMethod, chain);
+      this.arg = arg;
+    }
+
+    @Override
+    protected void invokeMethod() {
+      result = doStuff(arg);
+    }
+
+    @Override
+    public Object argument(int index) {
+      switch (index) {
+        case 0: return arg;
+        default: return super.argument(index);
+      }
+    }
+
+    @Override
+    protected Object[] createArguments() {
+      created++;
+      return new Object[]{arg};
+    }
+  }
+
+  int count(String name, int times) {
+    trace.add("count");
+    return name.length() * times;
+  }
+
+  final class CountCall extends Invocation.ChainedInt {
+
+    private final String name;
+    private final int times;
+
+    CountCall(MethodInterceptor[] chain, String name, int times) {
+      super(InvocationChainedTest.this, doStuffMethod, chain);
+      this.name = name;
+      this.times = times;
+    }
+
+    @Override
+    protected void invokeMethod() {
+      result(count(name, times));
+    }
+
+    @Override
+    protected Object[] createArguments() {
+      created++;
+      return new Object[]{name, times};
+    }
+
+    @Override
+    public int intArgument(int index) {
+      switch (index) {
+        case 1: return times;
+        default: return super.intArgument(index);
+      }
+    }
+  }
+
+  @Test
+  void single() throws Throwable {
+    DoStuffCall call = new DoStuffCall(new MethodInterceptor[]{new Inter("0")}, myArg);
+    call.intercept();
+
+    assertThat(call.finalResult()).isEqualTo("hello");
+    assertThat(trace).containsExactly("b-0", "doStuff", "a-0");
+    assertThat(results).containsExactly("hello");
+    assertThat(args).containsExactly(myArg);
+  }
+
+  @Test
+  void chained_outerMostFirst() throws Throwable {
+    DoStuffCall call = new DoStuffCall(new MethodInterceptor[]{new Inter("2"), new Inter("1"), new Inter("0")}, myArg);
+    call.intercept();
+
+    assertThat(call.finalResult()).isEqualTo("hello");
+    assertThat(trace).containsExactly("b-2", "b-1", "b-0", "doStuff", "a-0", "a-1", "a-2");
+    assertThat(results).containsExactly("hello", "hello", "hello");
+    assertThat(args).containsExactly(myArg, myArg, myArg);
+    assertThat(call.instance()).isSameAs(this);
+    assertThat(call.method()).isSameAs(doStuffMethod);
+    // arguments are created once on first use
+    assertThat(created).isEqualTo(1);
+  }
+
+  @Test
+  void invokeTwice_andReplaceResult() throws Throwable {
+    MethodInterceptor twice = invocation -> {
+      invocation.invoke();
+      invocation.invoke();
+    };
+    MethodInterceptor replace = invocation -> {
+      invocation.invoke();
+      invocation.result("replaced");
+    };
+    DoStuffCall call = new DoStuffCall(new MethodInterceptor[]{replace, twice, new Inter("0")}, myArg);
+    call.intercept();
+
+    assertThat(call.finalResult()).isEqualTo("replaced");
+    assertThat(trace).containsExactly("b-0", "doStuff", "a-0", "b-0", "doStuff", "a-0");
+  }
+
+  @Test
+  void argumentsNotUsed_notCreated() throws Throwable {
+    DoStuffCall call = new DoStuffCall(new MethodInterceptor[]{Invocation::invoke}, myArg);
+    call.intercept();
+
+    assertThat(call.finalResult()).isEqualTo("hello");
+    assertThat(created).isZero();
+    assertThat(call.arguments(new IllegalStateException())).hasSize(2);
+  }
+
+  @Test
+  void chainedInt_proceed() throws Throwable {
+    MethodInterceptor timing = invocation -> {
+      trace.add("times:" + invocation.intArgument(1));
+      invocation.proceed();
+    };
+    CountCall call = new CountCall(new MethodInterceptor[]{timing}, "ab", 3);
+    call.intercept();
+
+    assertThat(call.intResult()).isEqualTo(6);
+    assertThat(trace).containsExactly("times:3", "count");
+    assertThat(created).isZero();
+  }
+
+  @Test
+  void chainedInt_replaceResult() throws Throwable {
+    MethodInterceptor boxed = invocation -> {
+      assertThat(invocation.invoke()).isEqualTo(6);
+      invocation.result(Integer.valueOf(7));
+    };
+    MethodInterceptor primitive = invocation -> {
+      invocation.proceed();
+      invocation.result(8);
+    };
+    CountCall call = new CountCall(new MethodInterceptor[]{boxed}, "ab", 3);
+    call.intercept();
+    assertThat(call.intResult()).isEqualTo(7);
+
+    call = new CountCall(new MethodInterceptor[]{primitive}, "ab", 3);
+    call.intercept();
+    assertThat(call.intResult()).isEqualTo(8);
+    assertThat(call.finalResult()).isEqualTo(8);
+    assertThat(call.argument(0)).isEqualTo("ab");
+    assertThat(created).isEqualTo(1);
+  }
+
+  @Test
+  void wrapped_continuesChain() throws Throwable {
+    MethodInterceptor wrapping = invocation -> {
+      trace.add("wrapping");
+      new Inter("outer").invoke(((Invocation.Base<?>) invocation).wrap(new Inter("wrapped")));
+    };
+    DoStuffCall call = new DoStuffCall(new MethodInterceptor[]{wrapping, new Inter("0")}, myArg);
+    call.intercept();
+
+    assertThat(call.finalResult()).isEqualTo("hello");
+    assertThat(trace).containsExactly("wrapping", "b-outer", "b-wrapped", "b-0", "doStuff", "a-0", "a-wrapped", "a-outer");
+    assertThat(results).containsExactly("hello", "hello", "hello");
+    assertThat(args).containsExactly(myArg, myArg, myArg);
+  }
+
+  class Inter implements MethodInterceptor {
+
+    private final String name;
+
+    Inter(String name) {
+      this.name = name;
+    }
+
+    @Override
+    public void invoke(Invocation invocation) throws Throwable {
+      args.addAll(Arrays.asList(invocation.arguments()));
+      trace.add("b-" + name);
+      results.add(invocation.invoke());
+      trace.add("a-" + name);
+    }
+  }
+}
@@ -0,0 +1,30 @@
+package io.avaje.inject.aop;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class InvocationExceptionTest {
+
+  @Test
+  void proxyMarker_stackless() {
+    InvocationException marker = InvocationException.proxyMarker("doStuff");
+    assertThat(marker).hasMessage("doStuff proxy threw exception");
+    assertThat(marker.getStackTrace()).isEmpty();
+
+    marker.addSuppressed(new IllegalStateException());
+    assertThat(marker.getSuppressed()).isEmpty();
+  }
+
+  @Test
+  void addMarker_shared() {
+    InvocationException marker = InvocationException.proxyMarker("doStuff");
+    IllegalStateException first = new IllegalStateException();
+    IllegalStateException second = new IllegalStateException();
+    InvocationException.addMarker(first, marker);
+    InvocationException.addMarker(second, marker);
+
+    assertThat(first.getSuppressed()).containsExactly(marker);
+    assertThat(second.getSuppressed()).containsExactly(marker);
+  }
+}
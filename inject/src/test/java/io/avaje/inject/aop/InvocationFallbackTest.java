@@ -85,6 +85,68 @@ class InvocationFallbackTest {
     assertThat(call.finalResult()).isEqualTo("hello");
   }
 
+  @Test
+  void invokeWithChainedFallback() throws Throwable {
+    throwOnDoStuff = true;
+
+    Fallback fallback = Fallback.find("fallbackDoStuff", doStuffMethod);
+    DoStuffCall call = new DoStuffCall(new MethodInterceptor[]{new MyInterceptor(fallback)});
+    call.intercept();
+
+    assertThat(trace).containsExactly("doStuff", "fallbackDoStuff");
+    assertThat(fallbackArg).isSameAs(myArg);
+    assertThat(call.finalResult()).isEqualTo("fallback-hello");
+    // called directly rather than by reflection
+    assertThat(call.boundFallback).isEqualTo("fallbackDoStuff");
+  }
+
+  @Test
+  void invokeWithChainedFallback_notBound() throws Throwable {
+    throwOnDoStuff = true;
+
+    Fallback fallback = Fallback.find("fallbackDoStuff", doStuffMethod);
+    DoStuffCall call = new DoStuffCall(new MethodInterceptor[]{new MyInterceptor(fallback)}) {
+      @Override
+      protected Object fallback(String name, Throwable e, Fallback reflective) {
+        return reflective.invoke(this, e);
+      }
+    };
+    call.intercept();
+
+    assertThat(trace).containsExactly("doStuff", "fallbackDoStuff");
+    assertThat(call.finalResult()).isEqualTo("fallback-hello");
+    assertThat(call.boundFallback).isNull();
+  }
+
+  class DoStuffCall extends Invocation.Chained<String> {
+
+    String boundFallback;
+
+    DoStuffCall(MethodInterceptor[] chain) {
+      super(InvocationFallbackTest.this, doStuffMethod, chain);
+    }
+
+    @Override
+    protected void invokeMethod() {
+      result = doStuff(myArg);
+    }
+
+    @Override
+    protected Object[] createArguments() {
+      return new Object[]{myArg};
+    }
+
+    @Override
+    protected Object fallback(String name, Throwable e, Fallback reflective) {
+      if ("fallbackDoStuff".equals(name)) {
+        boundFallback = name;
+        result = fallbackDoStuff(myArg);
+        return result;
+      }
+      return super.fallback(name, e, reflective);
+    }
+  }
+
   static class MyInterceptor implements MethodInterceptor {
 
     final Fallback fallback;
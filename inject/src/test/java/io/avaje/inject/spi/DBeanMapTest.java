@@ -0,0 +1,137 @@
+package io.avaje.inject.spi;
+
+import jakarta.inject.Provider;
+import org.junit.jupiter.api.Test;
+
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.reflect.Type;
+import java.util.Collection;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class DBeanMapTest {
+
+  static final Type TYPE_ListString = new GenericType<List<String>>(){}.type();
+
+  @Test
+  void get_byClass() {
+    DBeanMap map = new DBeanMap();
+    map.nextBean(null, new Type[]{String.class, CharSequence.class});
+    map.register("a");
+
+    assertThat(map.<String>get(String.class, null)).isEqualTo("a");
+    assertThat(map.<String>get(CharSequence.class, null)).isEqualTo("a");
+    assertThat(map.<String>get(Integer.class, null)).isNull();
+    assertThat(map.contains(CharSequence.class)).isTrue();
+    assertThat(map.contains("java.lang.CharSequence")).isTrue();
+  }
+
+  @Test
+  void get_byGenericType_otherInstance() {
+    DBeanMap map = new DBeanMap();
+    List<String> bean = List.of("a");
+    map.nextBean(null, new Type[]{TYPE_ListString});
+    map.register(bean);
+
+    Type otherInstance = new GenericType<List<String>>(){}.type();
+    assertThat(otherInstance).isNotSameAs(TYPE_ListString);
+    assertThat(map.<List<String>>get(otherInstance, null)).isSameAs(bean);
+    assertThat(map.<List<String>>get(new GenericType<List<String>>(){}, null)).isSameAs(bean);
+    assertThat(map.contains("java.util.List<java.lang.String>")).isTrue();
+    assertThat(map.contains(new GenericType<List<Integer>>(){})).isFalse();
+  }
+
+  @Test
+  void freeze() {
+    DBeanMap map = new DBeanMap();
+    List<String> bean = List.of("a");
+    map.nextBean("one", new Type[]{TYPE_ListString, Collection.class});
+    map.register(bean);
+    map.nextBean(null, new Type[]{String.class, CharSequence.class});
+    map.register("b");
+    map.nextBean(null, new Type[]{StringBuilder.class, CharSequence.class});
+    map.register(new StringBuilder("c"));
+    map.freeze();
+
+    assertThat(map.<List<String>>get(new GenericType<List<String>>(){}.type(), null)).isSameAs(bean);
+    assertThat(map.<String>get(String.class, null)).isEqualTo("b");
+    assertThat(map.all(CharSequence.class)).hasSize(2);
+    assertThat(map.contains("java.util.Collection")).isTrue();
+    assertThat(map.contains(Collection.class)).isTrue();
+    assertThat(map.contains(Integer.class)).isFalse();
+    assertThat(map.containsQualifier("one")).isTrue();
+    assertThat(map.containsQualifier("two")).isFalse();
+
+    Map<DContextEntryBean, DEntry> all = new IdentityHashMap<>();
+    map.addAll(all);
+    assertThat(all).hasSize(3);
+
+    assertThatThrownBy(() -> map.nextBean(null, new Type[]{Integer.class})).isInstanceOf(IllegalStateException.class);
+  }
+
+  @Test
+  void freeze_foreignType_expect_cachedOnceMatched() {
+    DBeanMap map = new DBeanMap();
+    List<String> bean = List.of("a");
+    map.nextBean(null, new Type[]{TYPE_ListString});
+    map.register(bean);
+    map.freeze();
+
+    ForeignListType foreign = new ForeignListType();
+    assertThat(map.<List<String>>get(foreign, null)).isSameAs(bean);
+    assertThat(map.<List<String>>get(foreign, null)).isSameAs(bean);
+    assertThat(foreign.typeNameCalls).isEqualTo(1);
+  }
+
+  /**
+   * A Type implementation that does not equal the JDK ParameterizedType of List&lt;String&gt;.
+   */
+  static final class ForeignListType implements Type {
+
+    int typeNameCalls;
+
+    @Override
+    public String getTypeName() {
+      typeNameCalls++;
+      return "java.util.List<java.lang.String>";
+    }
+  }
+
+  @Retention(RetentionPolicy.RUNTIME)
+  @interface Marker {}
+
+  @Marker
+  static class Marked {}
+
+  static class Unmarked {}
+
+  @Test
+  void listByAnnotation_expect_onlyMatchingInstantiated() {
+    DBeanMap map = new DBeanMap();
+    AtomicInteger created = new AtomicInteger();
+    Marked marked = new Marked();
+    map.nextBean(null, new Type[]{Marked.class});
+    map.register(marked);
+    map.nextBean(null, new Type[]{Unmarked.class});
+    map.register((Provider<Unmarked>) () -> {
+      created.incrementAndGet();
+      return new Unmarked();
+    });
+    map.nextBean("lazy", new Type[]{Marked.class});
+    map.register((Provider<Marked>) Marked::new);
+    map.freeze();
+
+    List<Object> beans = map.listByAnnotation(Marker.class);
+    assertThat(beans).hasSize(2);
+    assertThat(beans.get(0)).isSameAs(marked);
+    assertThat(map.listByAnnotation(Marker.class).get(1)).isSameAs(beans.get(1));
+    assertThat(map.listByAnnotation(Deprecated.class)).isEmpty();
+    assertThat(created.get()).isEqualTo(0);
+  }
+}
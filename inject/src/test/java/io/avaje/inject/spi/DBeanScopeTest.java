@@ -1,5 +1,6 @@
 package io.avaje.inject.spi;
 
+import io.avaje.inject.Priority;
 import org.assertj.core.util.Arrays;
 import org.junit.jupiter.api.Test;
 
@@ -27,6 +28,15 @@ class DBeanScopeTest {
     assertThat(result).containsExactly("A", "B", "C");
   }
 
+  @Test
+  void readPriority() {
+    assertThat(DBeanScope.readPriority(WithPriority.class, Priority.class)).hasValue(42);
+    assertThat(DBeanScope.readPriority(String.class, Priority.class)).isEmpty();
+  }
+
+  @Priority(42)
+  static class WithPriority {
+  }
 
   List<Object> list(String... vals) {
     return Arrays.asList(vals);
@@ -0,0 +1,60 @@
+package io.avaje.inject.spi;
+
+import io.avaje.inject.BeanEntry;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class DContextEntryBeanTest {
+
+  @Test
+  void onceProvider_concurrentReaders_expect_singleInstance() throws Exception {
+    final int readers = 64;
+    final AtomicInteger created = new AtomicInteger();
+    final DContextEntryBean entry = DContextEntryBean.provider(false, () -> {
+      created.incrementAndGet();
+      return new Object();
+    }, null, BeanEntry.NORMAL);
+
+    final CountDownLatch start = new CountDownLatch(1);
+    final Set<Object> seen = ConcurrentHashMap.newKeySet();
+    final ExecutorService executor = Executors.newFixedThreadPool(readers);
+    try {
+      final List<Future<?>> futures = new ArrayList<>();
+      for (int i = 0; i < readers; i++) {
+        futures.add(executor.submit(() -> {
+          start.await();
+          for (int j = 0; j < 10_000; j++) {
+            seen.add(entry.bean());
+          }
+          return null;
+        }));
+      }
+      start.countDown();
+      for (Future<?> future : futures) {
+        future.get(30, TimeUnit.SECONDS);
+      }
+    } finally {
+      executor.shutdownNow();
+    }
+    assertThat(created.get()).isEqualTo(1);
+    assertThat(seen).hasSize(1);
+  }
+
+  @Test
+  void protoProvider_expect_newInstances() {
+    final DContextEntryBean entry = DContextEntryBean.provider(true, Object::new, null, BeanEntry.NORMAL);
+    assertThat(entry.bean()).isNotSameAs(entry.bean());
+  }
+}
@@ -3,8 +3,20 @@ package io.avaje.inject.spi;
 import io.avaje.inject.BeanEntry;
 import org.junit.jupiter.api.Test;
 
+import java.lang.reflect.Field;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 @SuppressWarnings("all")
 class DContextEntryTest {
@@ -95,4 +107,125 @@ class DContextEntryTest {
 
     assertEquals(entry.get("b"), "S2");
   }
+
+  @Test
+  void get_when_resolved_expect_sameMatch() {
+
+    DContextEntry entry = new DContextEntry();
+    entry.add(DContextEntryBean.of("A", "a", BeanEntry.NORMAL));
+    entry.add(DContextEntryBean.of("B", "b", BeanEntry.NORMAL));
+
+    assertEquals(entry.get("b"), "B");
+    assertEquals(entry.get("b"), "B");
+    assertEquals(entry.getStrict("a"), "A");
+    assertEquals(entry.provider("a").get(), "A");
+    assertNull(entry.get("c"));
+  }
+
+  @Test
+  void get_when_unregisteredName_expect_notCached() throws Exception {
+
+    DContextEntry entry = new DContextEntry();
+    entry.add(DContextEntryBean.of("A", "a", BeanEntry.NORMAL));
+    entry.add(DContextEntryBean.of("B", "b", BeanEntry.NORMAL));
+
+    for (int i = 0; i < 100; i++) {
+      assertNull(entry.get("c" + i));
+    }
+    assertEquals(entry.get("!b"), "B");
+    assertEquals(entry.get("a"), "A");
+
+    Field field = DContextEntry.class.getDeclaredField("resolved");
+    field.setAccessible(true);
+    assertEquals(Set.of("a", "!b"), ((Map<?, ?>) field.get(entry)).keySet());
+  }
+
+  @Test
+  void get_when_failedResolution_expect_throwsEachTime() {
+
+    DContextEntry entry = new DContextEntry();
+    entry.add(DContextEntryBean.of("A", null, BeanEntry.NORMAL));
+    entry.add(DContextEntryBean.of("B", null, BeanEntry.NORMAL));
+
+    IllegalStateException first = assertThrows(IllegalStateException.class, () -> entry.get(null));
+    IllegalStateException second = assertThrows(IllegalStateException.class, () -> entry.get(null));
+    // the original failure with its stack trace is the cause
+    assertNotNull(first.getCause());
+    assertSame(first.getCause(), second.getCause());
+    assertEquals(first.getMessage(), first.getCause().getMessage());
+  }
+
+  @Test
+  void entryBean_when_visibleToTask_expect_matchOnlyVisible() {
+    DContextEntry entry = new DContextEntry();
+    DContextEntryBean a = DContextEntryBean.of("A", null, BeanEntry.NORMAL);
+    DContextEntryBean b = DContextEntryBean.of("B", "b", BeanEntry.NORMAL);
+    DContextEntryBean c = DContextEntryBean.of("C", null, BeanEntry.NORMAL);
+    a.order(0, 0);
+    b.order(1, 1);
+    c.order(2, 2);
+    entry.add(a);
+    entry.add(b);
+    entry.add(c);
+
+    BitSet visible = new BitSet();
+    visible.set(0);
+    ModuleTask onlyA = new ModuleTask(0, visible);
+    assertSame(a, entry.entryBean(null, onlyA));
+    assertSame(a, entry.entryBean("b", onlyA));
+    assertEquals(1, entry.visibleEntries(onlyA).size());
+
+    visible.set(1);
+    ModuleTask aAndB = new ModuleTask(1, visible);
+    assertSame(b, entry.entryBean("b", aAndB));
+    assertTrue(entry.isVisibleTo(aAndB));
+
+    BitSet none = new BitSet();
+    none.set(3);
+    assertNull(entry.entryBean(null, new ModuleTask(3, none)));
+    assertFalse(entry.isVisibleTo(new ModuleTask(3, none)));
+
+    // all visible uses the cached resolution
+    visible.set(2);
+    assertThrows(IllegalStateException.class, () -> entry.entryBean(null, new ModuleTask(2, visible)));
+  }
+
+  @Test
+  void get_when_addedAfterResolved_expect_resolvedAgain() {
+
+    DContextEntry entry = new DContextEntry();
+    entry.add(DContextEntryBean.of("N", null, BeanEntry.NORMAL));
+    entry.add(DContextEntryBean.of("S", null, BeanEntry.SECONDARY));
+    assertEquals(entry.get(null), "N");
+
+    entry.add(DContextEntryBean.of("P", null, BeanEntry.PRIMARY));
+    assertEquals(entry.get(null), "P");
+  }
+
+  @Test
+  void all_when_frozen_expect_cached() {
+
+    DContextEntry entry = new DContextEntry();
+    entry.add(DContextEntryBean.of("A", "a", BeanEntry.NORMAL));
+    entry.add(DContextEntryBean.of("B", null, BeanEntry.NORMAL));
+    assertNotSame(entry.all(), entry.all());
+
+    entry.freeze();
+    assertSame(entry.all(), entry.all());
+    assertSame(entry.map(), entry.map());
+    assertEquals(entry.all(), List.of("A", "B"));
+    assertThrows(UnsupportedOperationException.class, () -> entry.all().add("C"));
+  }
+
+  @Test
+  void all_when_frozenWithPrototype_expect_notCached() {
+
+    DContextEntry entry = new DContextEntry();
+    entry.add(DContextEntryBean.of("A", "a", BeanEntry.NORMAL));
+    entry.add(DContextEntryBean.provider(true, Object::new, "b", BeanEntry.NORMAL));
+    entry.freeze();
+
+    assertNotSame(entry.all(), entry.all());
+    assertNotSame(entry.all().get(1), entry.all().get(1));
+  }
 }
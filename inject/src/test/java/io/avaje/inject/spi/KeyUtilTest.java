@@ -0,0 +1,21 @@
+package io.avaje.inject.spi;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class KeyUtilTest {
+
+  @Test
+  void lower_whenLower_expect_sameInstance() {
+    String name = "!abuilder";
+    assertThat(KeyUtil.lower(name)).isSameAs(name);
+    assertThat(KeyUtil.lower(null)).isNull();
+  }
+
+  @Test
+  void lower_whenMixedCase() {
+    assertThat(KeyUtil.lower("!aBuilder")).isEqualTo("!abuilder");
+    assertThat(KeyUtil.lower("Électric")).isEqualTo("électric");
+  }
+}
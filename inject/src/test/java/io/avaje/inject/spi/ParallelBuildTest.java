@@ -0,0 +1,295 @@
+package io.avaje.inject.spi;
+
+import io.avaje.inject.BeanScope;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ParallelBuildTest {
+
+  interface Store {}
+
+  static final class NamedStore implements Store {
+    final String name;
+    final Store dependency;
+
+    NamedStore(String name, Store dependency) {
+      this.name = name;
+      this.dependency = dependency;
+    }
+
+    @Override
+    public String toString() {
+      return name;
+    }
+  }
+
+  static final class Pool {}
+
+  static final class Base {}
+
+  @Test
+  void independentModules_builtConcurrently() {
+    final CountDownLatch latch = new CountDownLatch(2);
+    final ExecutorService executor = Executors.newFixedThreadPool(4);
+    try (BeanScope scope = BeanScope.builder()
+      .modules(new BaseModule(), new StoreModule("a", latch, null, true), new StoreModule("b", latch, null, true), new DependentModule())
+      .parallel(executor)
+      .build()) {
+
+      assertThat(latch.getCount()).isZero();
+      // same order as a sequential build
+      assertThat(scope.list(Store.class)).extracting(Object::toString).containsExactly("a", "b", "c");
+      final NamedStore c = scope.get(NamedStore.class, "c");
+      assertThat(c.dependency.toString()).isEqualTo("a");
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
+  @Test
+  void modules_onlySeeDependencies() {
+    // module b would see store "a" when built sequentially but not when built concurrently
+    try (BeanScope scope = BeanScope.builder()
+      .modules(new BaseModule(), new StoreModule("a", null, null, true), new StoreModule("b", null, Store.class, true))
+      .parallel()
+      .build()) {
+
+      final NamedStore b = scope.get(NamedStore.class, "b");
+      assertThat(b.dependency).isNull();
+      assertThat(scope.list(Store.class)).hasSize(2);
+    }
+  }
+
+  @Test
+  void modules_withoutRequires_seeEarlierModules() {
+    // module b declares no requires so sees store "a" as when built sequentially
+    try (BeanScope scope = BeanScope.builder()
+      .modules(new StoreModule("a", null, null, false), new StoreModule("b", null, Store.class, false))
+      .parallel()
+      .build()) {
+
+      final NamedStore b = scope.get(NamedStore.class, "b");
+      assertThat(b.dependency.toString()).isEqualTo("a");
+    }
+  }
+
+  @Test
+  void moduleFailure_propagated() {
+    assertThatThrownBy(() -> BeanScope.builder()
+      .modules(new StoreModule("a", null, null, false), new FailingModule())
+      .parallel()
+      .build())
+      .isInstanceOf(IllegalStateException.class)
+      .hasMessage("failed");
+  }
+
+  @Test
+  void beansOfSameLevel_builtConcurrently() {
+    final CountDownLatch latch = new CountDownLatch(2);
+    final List<String> postConstruct = new CopyOnWriteArrayList<>();
+    try (BeanScope scope = BeanScope.builder()
+      .modules(new LevelModule(latch, postConstruct))
+      .parallel()
+      .build()) {
+
+      assertThat(latch.getCount()).isZero();
+      // registration order and lifecycle order of a sequential build
+      assertThat(scope.list(Store.class)).extracting(Object::toString).containsExactly("a", "c", "b");
+      assertThat(postConstruct).containsExactly("a", "c", "b");
+      final NamedStore c = scope.get(NamedStore.class, "c");
+      assertThat(c.dependency.toString()).isEqualTo("a");
+    }
+  }
+
+  @Test
+  void beans_builtSequentially_whenNotParallel() {
+    final List<String> postConstruct = new CopyOnWriteArrayList<>();
+    try (BeanScope scope = BeanScope.builder()
+      .modules(new LevelModule(null, postConstruct))
+      .build()) {
+
+      assertThat(scope.list(Store.class)).extracting(Object::toString).containsExactly("a", "c", "b");
+      assertThat(postConstruct).containsExactly("a", "c", "b");
+    }
+  }
+
+  @Test
+  void beanFailure_propagated() {
+    assertThatThrownBy(() -> BeanScope.builder()
+      .modules(new FailingLevelModule())
+      .parallel()
+      .build())
+      .isInstanceOf(IllegalStateException.class)
+      .hasMessage("failed");
+  }
+
+  static final class LevelModule implements Module {
+
+    private final CountDownLatch latch;
+    private final List<String> postConstruct;
+    private Builder builder;
+
+    LevelModule(CountDownLatch latch, List<String> postConstruct) {
+      this.latch = latch;
+      this.postConstruct = postConstruct;
+    }
+
+    @Override
+    public Class<?>[] classes() {
+      return EMPTY_CLASSES;
+    }
+
+    @Override
+    public void build(Builder builder) {
+      this.builder = builder;
+      // c depends on a, b has no dependencies
+      builder.buildBeans(new int[]{0, 1, 0},
+        () -> build("a", null),
+        () -> build("c", Store.class),
+        () -> build("b", null));
+    }
+
+    private void build(String name, Class<?> dependsOn) {
+      if (latch != null && dependsOn == null) {
+        // wait for the other bean of the level which only completes when built concurrently
+        latch.countDown();
+        try {
+          latch.await(10, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+          Thread.currentThread().interrupt();
+        }
+      }
+      if (builder.isAddBeanFor(name, NamedStore.class, Store.class)) {
+        final Store dependency = dependsOn == null ? null : builder.get(Store.class, "a");
+        builder.register(new NamedStore(name, dependency));
+        builder.addPostConstruct(() -> postConstruct.add(name));
+      }
+    }
+  }
+
+  static final class FailingLevelModule implements Module {
+
+    @Override
+    public Class<?>[] classes() {
+      return EMPTY_CLASSES;
+    }
+
+    @Override
+    public void build(Builder builder) {
+      builder.buildBeans(new int[]{0, 0},
+        () -> {},
+        () -> {
+          throw new IllegalStateException("failed");
+        });
+    }
+  }
+
+  static final class StoreModule implements Module {
+
+    private final String name;
+    private final CountDownLatch latch;
+    private final Class<?> optional;
+    private final boolean requiresBase;
+
+    StoreModule(String name, CountDownLatch latch, Class<?> optional, boolean requiresBase) {
+      this.name = name;
+      this.latch = latch;
+      this.optional = optional;
+      this.requiresBase = requiresBase;
+    }
+
+    @Override
+    public Class<?>[] requires() {
+      return requiresBase ? new Class<?>[]{Base.class} : EMPTY_CLASSES;
+    }
+
+    @Override
+    public Class<?>[] provides() {
+      return "a".equals(name) ? new Class<?>[]{Pool.class} : EMPTY_CLASSES;
+    }
+
+    @Override
+    public Class<?>[] classes() {
+      return EMPTY_CLASSES;
+    }
+
+    @Override
+    public void build(Builder builder) {
+      if (latch != null) {
+        // wait for the other module which only completes when built concurrently
+        latch.countDown();
+        try {
+          latch.await(10, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+          Thread.currentThread().interrupt();
+        }
+      }
+      if (builder.isAddBeanFor(name, NamedStore.class, Store.class)) {
+        final Store dependency = optional == null ? null : builder.<Store>getOptional(optional).orElse(null);
+        builder.register(new NamedStore(name, dependency));
+      }
+    }
+  }
+
+  static final class BaseModule implements Module {
+
+    @Override
+    public Class<?>[] provides() {
+      return new Class<?>[]{Base.class};
+    }
+
+    @Override
+    public Class<?>[] classes() {
+      return EMPTY_CLASSES;
+    }
+
+    @Override
+    public void build(Builder builder) {
+      // provides the module dependency only
+    }
+  }
+
+  static final class DependentModule implements Module {
+
+    @Override
+    public Class<?>[] requires() {
+      return new Class<?>[]{Pool.class};
+    }
+
+    @Override
+    public Class<?>[] classes() {
+      return EMPTY_CLASSES;
+    }
+
+    @Override
+    public void build(Builder builder) {
+      if (builder.isAddBeanFor("c", NamedStore.class, Store.class)) {
+        final List<Store> stores = builder.list(Store.class);
+        assertThat(stores).extracting(Object::toString).containsExactly("a");
+        builder.register(new NamedStore("c", builder.get(Store.class, "a")));
+      }
+    }
+  }
+
+  static final class FailingModule implements Module {
+
+    @Override
+    public Class<?>[] classes() {
+      return EMPTY_CLASSES;
+    }
+
+    @Override
+    public void build(Builder builder) {
+      throw new IllegalStateException("failed");
+    }
+  }
+}
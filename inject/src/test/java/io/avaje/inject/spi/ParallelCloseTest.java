@@ -0,0 +1,192 @@
+package io.avaje.inject.spi;
+
+import io.avaje.inject.BeanScope;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ParallelCloseTest {
+
+  private final List<String> closed = new CopyOnWriteArrayList<>();
+
+  private static ParallelClose parallelClose(Duration bandTimeout, Duration timeout) {
+    return new ParallelClose(Executors::newCachedThreadPool, bandTimeout, timeout);
+  }
+
+  private AutoCloseable closeable(String name, CountDownLatch latch) {
+    return new AutoCloseable() {
+      @Override
+      public void close() throws InterruptedException {
+        if (latch != null) {
+          latch.countDown();
+          latch.await(10, TimeUnit.SECONDS);
+        }
+        closed.add(name);
+      }
+
+      @Override
+      public String toString() {
+        return name;
+      }
+    };
+  }
+
+  /**
+   * A closeable that ignores interrupts and completes after the given millis.
+   */
+  private AutoCloseable stubborn(String name, long millis) {
+    return new AutoCloseable() {
+      @Override
+      public void close() {
+        final long until = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(millis);
+        long remaining;
+        while ((remaining = until - System.nanoTime()) > 0) {
+          try {
+            TimeUnit.NANOSECONDS.sleep(remaining);
+          } catch (InterruptedException e) {
+            // ignored
+          }
+        }
+        closed.add(name);
+      }
+
+      @Override
+      public String toString() {
+        return name;
+      }
+    };
+  }
+
+  @Test
+  void sameBand_closedConcurrently_bandsInOrder() {
+    final CountDownLatch latch = new CountDownLatch(2);
+    final List<ClosePair> overran = parallelClose(Duration.ofSeconds(10), Duration.ofSeconds(20)).close(List.of(
+      new ClosePair(1000, closeable("a", latch)),
+      new ClosePair(1000, closeable("b", latch)),
+      new ClosePair(2000, closeable("c", null))));
+
+    assertThat(overran).isEmpty();
+    assertThat(closed).hasSize(3).endsWith("c");
+  }
+
+  @Test
+  void bandTimeout_reportsOverrun_andClosesNextBand() {
+    final CountDownLatch never = new CountDownLatch(2);
+    final List<ClosePair> overran = parallelClose(Duration.ofMillis(50), Duration.ofSeconds(20)).close(List.of(
+      new ClosePair(1000, closeable("slow", never)),
+      new ClosePair(1000, closeable("fast", null)),
+      new ClosePair(2000, closeable("next", null))));
+
+    assertThat(overran).extracting(Object::toString).containsExactly("slow");
+    assertThat(closed).containsExactly("fast", "next");
+  }
+
+  @Test
+  void bandTimeout_ignoresInterrupt_nextBandAfterStopped() {
+    final List<ClosePair> overran = parallelClose(Duration.ofMillis(50), Duration.ofSeconds(20)).close(List.of(
+      new ClosePair(1000, stubborn("stubborn", 300)),
+      new ClosePair(2000, closeable("next", null))));
+
+    assertThat(overran).extracting(Object::toString).containsExactly("stubborn");
+    assertThat(closed).containsExactly("stubborn", "next");
+  }
+
+  @Test
+  void bandTimeout_ignoresInterrupt_pastOverallTimeout_remainingBandsNotClosed() {
+    final List<ClosePair> overran = parallelClose(Duration.ofMillis(50), Duration.ofMillis(150)).close(List.of(
+      new ClosePair(1000, stubborn("stubborn", 500)),
+      new ClosePair(2000, closeable("next", null))));
+
+    assertThat(overran).extracting(Object::toString).containsExactly("stubborn", "next");
+    assertThat(closed).doesNotContain("next");
+  }
+
+  @Test
+  void overallTimeout_remainingBandsNotClosed() {
+    final CountDownLatch never = new CountDownLatch(2);
+    final List<ClosePair> overran = parallelClose(Duration.ofSeconds(10), Duration.ofMillis(50)).close(List.of(
+      new ClosePair(1000, closeable("slow", never)),
+      new ClosePair(2000, closeable("next", null))));
+
+    assertThat(overran).extracting(Object::toString).containsExactly("slow", "next");
+    assertThat(closed).isEmpty();
+  }
+
+  @Test
+  void beanScope_parallelClose() {
+    final CountDownLatch latch = new CountDownLatch(2);
+    final BeanScope scope = BeanScope.builder()
+      .modules(new CloseModule(closeable("a", latch), closeable("b", latch)))
+      .addPreDestroy(closeable("last", null), 2000)
+      .parallelClose(Duration.ofSeconds(10), Duration.ofSeconds(20))
+      .build();
+
+    scope.close();
+    assertThat(closed).hasSize(3).endsWith("last");
+  }
+
+  @Test
+  void beanScope_parallelClose_overrunsReportedByBean() {
+    final CountDownLatch never = new CountDownLatch(2);
+    final AutoCloseable slow = closeable("slow", never);
+    final BeanScope scope = BeanScope.builder()
+      .modules(new NamedCloseModule(slow))
+      .parallelClose(Duration.ofMillis(50), Duration.ofSeconds(20))
+      .build();
+
+    assertThat(scope.closeOverruns()).isEmpty();
+    scope.close();
+    assertThat(scope.closeOverruns()).containsExactly("java.lang.StringBuilder name:slow");
+  }
+
+  static final class NamedCloseModule implements Module {
+
+    private final AutoCloseable closeable;
+
+    NamedCloseModule(AutoCloseable closeable) {
+      this.closeable = closeable;
+    }
+
+    @Override
+    public Class<?>[] classes() {
+      return EMPTY_CLASSES;
+    }
+
+    @Override
+    public void build(Builder builder) {
+      if (builder.isAddBeanFor("slow", StringBuilder.class)) {
+        builder.register(new StringBuilder());
+        // a method reference as generated for the PreDestroy method
+        builder.addPreDestroy(closeable::close);
+      }
+    }
+  }
+
+  static final class CloseModule implements Module {
+
+    private final AutoCloseable[] closeables;
+
+    CloseModule(AutoCloseable... closeables) {
+      this.closeables = closeables;
+    }
+
+    @Override
+    public Class<?>[] classes() {
+      return EMPTY_CLASSES;
+    }
+
+    @Override
+    public void build(Builder builder) {
+      for (AutoCloseable closeable : closeables) {
+        builder.addPreDestroy(closeable);
+      }
+    }
+  }
+}
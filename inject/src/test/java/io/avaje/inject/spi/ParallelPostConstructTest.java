@@ -0,0 +1,184 @@
+package io.avaje.inject.spi;
+
+import io.avaje.inject.BeanScope;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ParallelPostConstructTest {
+
+  interface Service {}
+
+  static final class NamedService implements Service {
+    final String name;
+
+    NamedService(String name) {
+      this.name = name;
+    }
+  }
+
+  @Test
+  void independentBeans_runConcurrently_afterDependencies() {
+    final CountDownLatch latch = new CountDownLatch(2);
+    final Set<String> done = ConcurrentHashMap.newKeySet();
+    final List<String> order = new CopyOnWriteArrayList<>();
+    try (BeanScope scope = BeanScope.builder()
+      .modules(new ServiceModule(latch, done, order))
+      .addPostConstruct(() -> order.add("last:" + done.size()))
+      .parallelPostConstruct(Duration.ofSeconds(10))
+      .build()) {
+
+      assertThat(latch.getCount()).isZero();
+      assertThat(order).contains("c after a", "d after c");
+      assertThat(order).last().isEqualTo("last:4");
+    }
+  }
+
+  @Test
+  void failures_aggregated_dependentsSkipped() {
+    final List<String> ran = new CopyOnWriteArrayList<>();
+    assertThatThrownBy(() -> BeanScope.builder()
+      .modules(new FailingModule(ran))
+      .parallelPostConstruct(Duration.ofSeconds(10))
+      .build())
+      .isInstanceOf(IllegalStateException.class)
+      .hasMessage("PostConstruct failed for 2 beans")
+      .satisfies(e -> assertThat(e.getSuppressed()).hasSize(1));
+
+    assertThat(ran).doesNotContain("c");
+  }
+
+  @Test
+  void timeout() {
+    final CountDownLatch release = new CountDownLatch(1);
+    try {
+      assertThatThrownBy(() -> BeanScope.builder()
+        .modules(new SlowModule(release))
+        .parallelPostConstruct(Duration.ofMillis(100))
+        .build())
+        .isInstanceOf(IllegalStateException.class)
+        .hasMessageContaining("did not complete within PT0.1S")
+        .hasMessageContaining(NamedService.class.getName() + ":slow");
+    } finally {
+      release.countDown();
+    }
+  }
+
+  private static void await(CountDownLatch latch) {
+    try {
+      latch.await(10, TimeUnit.SECONDS);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  abstract static class TestModule implements Module {
+
+    Builder builder;
+
+    @Override
+    public Class<?>[] classes() {
+      return EMPTY_CLASSES;
+    }
+
+    NamedService register(String name, String dependsOn) {
+      builder.isAddBeanFor(name, NamedService.class, Service.class);
+      if (dependsOn != null) {
+        builder.get(Service.class, dependsOn);
+      }
+      return builder.register(new NamedService(name));
+    }
+  }
+
+  static final class ServiceModule extends TestModule {
+
+    private final CountDownLatch latch;
+    private final Set<String> done;
+    private final List<String> order;
+
+    ServiceModule(CountDownLatch latch, Set<String> done, List<String> order) {
+      this.latch = latch;
+      this.done = done;
+      this.order = order;
+    }
+
+    @Override
+    public void build(Builder builder) {
+      this.builder = builder;
+      register("a", null);
+      builder.addPostConstruct(() -> {
+        // waits for b which only completes when run concurrently
+        latch.countDown();
+        await(latch);
+        done.add("a");
+      });
+      register("b", null);
+      builder.addPostConstruct(() -> {
+        latch.countDown();
+        await(latch);
+        done.add("b");
+      });
+      register("c", "a");
+      builder.addPostConstruct(() -> {
+        order.add(done.contains("a") ? "c after a" : "c before a");
+        done.add("c");
+      });
+      register("d", null);
+      // dependency via field injection
+      builder.addInjector(b -> b.get(Service.class, "c"));
+      builder.addPostConstruct(scope -> {
+        order.add(done.contains("c") ? "d after c" : "d before c");
+        done.add("d");
+      });
+    }
+  }
+
+  static final class FailingModule extends TestModule {
+
+    private final List<String> ran;
+
+    FailingModule(List<String> ran) {
+      this.ran = ran;
+    }
+
+    @Override
+    public void build(Builder builder) {
+      this.builder = builder;
+      register("a", null);
+      builder.addPostConstruct(() -> {
+        throw new IllegalStateException("a failed");
+      });
+      register("b", null);
+      builder.addPostConstruct(() -> {
+        throw new IllegalStateException("b failed");
+      });
+      register("c", "a");
+      builder.addPostConstruct(() -> ran.add("c"));
+    }
+  }
+
+  static final class SlowModule extends TestModule {
+
+    private final CountDownLatch release;
+
+    SlowModule(CountDownLatch release) {
+      this.release = release;
+    }
+
+    @Override
+    public void build(Builder builder) {
+      this.builder = builder;
+      register("slow", null);
+      builder.addPostConstruct(() -> await(release));
+    }
+  }
+}
@@ -0,0 +1,111 @@
+package io.avaje.inject.spi;
+
+import io.avaje.inject.BeanScope;
+import org.junit.jupiter.api.Test;
+
+import java.util.NoSuchElementException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ParentChainTest {
+
+  interface Greeter {}
+
+  static final class NamedGreeter implements Greeter {
+    final String name;
+
+    NamedGreeter(String name) {
+      this.name = name;
+    }
+
+    @Override
+    public String toString() {
+      return name;
+    }
+  }
+
+  @Test
+  void get_list_map_acrossLevels() {
+    final NamedGreeter a = new NamedGreeter("a");
+    final NamedGreeter b = new NamedGreeter("b");
+    try (BeanScope root = scope(null, a);
+         BeanScope mid = scope(root, b);
+         BeanScope leaf = scope(mid, new NamedGreeter("c"))) {
+
+      assertThat(mid.get(Greeter.class, null)).isSameAs(b);
+      assertThat(leaf.get(NamedGreeter.class, "c").name).isEqualTo("c");
+      assertThat(leaf.list(Greeter.class)).extracting(Object::toString).containsExactly("c", "b", "a");
+      assertThat(mid.list(Greeter.class)).containsExactly(b, a);
+      assertThat(leaf.<Greeter>map(Greeter.class)).containsOnlyKeys("a", "b", "c");
+    }
+  }
+
+  @Test
+  void get_resolvedFromParents() {
+    final NamedGreeter a = new NamedGreeter("a");
+    final NamedGreeter b = new NamedGreeter("b");
+    try (BeanScope root = scope(null, a, b);
+         BeanScope mid = scope(root);
+         BeanScope leaf = scope(mid)) {
+
+      assertThat(leaf.get(Greeter.class, "a")).isSameAs(a);
+      assertThat(leaf.get(NamedGreeter.class, "b")).isSameAs(b);
+      assertThat(leaf.getOptional(Greeter.class, "b")).containsSame(b);
+      assertThat(leaf.list(Greeter.class)).containsExactly(a, b);
+      assertThat(leaf.list(Greeter.class)).isSameAs(leaf.list(Greeter.class));
+      assertThat(leaf.<Greeter>map(Greeter.class)).isSameAs(leaf.<Greeter>map(Greeter.class));
+
+      assertThat(leaf.getOptional(String.class, null)).isEmpty();
+      assertThatThrownBy(() -> leaf.get(String.class))
+        .isInstanceOf(NoSuchElementException.class);
+    }
+  }
+
+  @Test
+  void handle_localAndParent() {
+    final NamedGreeter a = new NamedGreeter("a");
+    final NamedGreeter b = new NamedGreeter("b");
+    try (BeanScope root = scope(null, a, b);
+         BeanScope empty = scope(root);
+         BeanScope leaf = scope(root, new NamedGreeter("c"))) {
+
+      assertThat(leaf.<Greeter>handle(Greeter.class, null).get().toString()).isEqualTo("c");
+      assertThat(root.<Greeter>handle(Greeter.class, "b").get()).isSameAs(b);
+      assertThat(leaf.<Greeter>handle(NamedGreeter.class, "c").get().toString()).isEqualTo("c");
+      assertThat(empty.<Greeter>handle(Greeter.class, "a").get()).isSameAs(a);
+      assertThatThrownBy(() -> leaf.handle(String.class, null))
+        .isInstanceOf(NoSuchElementException.class);
+    }
+  }
+
+  private static BeanScope scope(BeanScope parent, NamedGreeter... greeters) {
+    return BeanScope.builder()
+      .parent(parent)
+      .modules(new GreeterModule(greeters))
+      .build();
+  }
+
+  static final class GreeterModule implements Module {
+
+    private final NamedGreeter[] greeters;
+
+    GreeterModule(NamedGreeter... greeters) {
+      this.greeters = greeters;
+    }
+
+    @Override
+    public Class<?>[] classes() {
+      return EMPTY_CLASSES;
+    }
+
+    @Override
+    public void build(Builder builder) {
+      for (NamedGreeter greeter : greeters) {
+        if (builder.isAddBeanFor(greeter.name, NamedGreeter.class, Greeter.class)) {
+          builder.register(greeter);
+        }
+      }
+    }
+  }
+}
@@ -0,0 +1,94 @@
+package io.avaje.inject.spi;
+
+import io.avaje.inject.BeanScope;
+import jakarta.inject.Provider;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Field;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ProviderPromiseTest {
+
+  static final class Holder {
+    Provider<String> local;
+    Provider<StringBuilder> parent;
+    Provider<Integer> missing;
+  }
+
+  @Test
+  void providers_boundAtEndOfBuild() throws Exception {
+    final StringBuilder parentBean = new StringBuilder("p");
+    final Holder holder = new Holder();
+    try (BeanScope parent = BeanScope.builder().modules(new ParentModule(parentBean)).build();
+         BeanScope scope = BeanScope.builder()
+           .parent(parent)
+           .modules(new HolderModule(holder))
+           .build()) {
+
+      assertThat(holder.local.get()).isEqualTo("a");
+      assertThat(holder.parent.get()).isSameAs(parentBean);
+      assertThatThrownBy(() -> holder.missing.get())
+        .isInstanceOf(IllegalStateException.class)
+        // the bean that requested the provider rather than the last bean wired
+        .hasMessageContaining("Injecting null for java.lang.Integer when creating " + Holder.class);
+
+      // the builder is not retained once bound
+      final Field builder = ProviderPromise.class.getDeclaredField("builder");
+      builder.setAccessible(true);
+      assertThat(builder.get(holder.local)).isNull();
+    }
+  }
+
+  static final class HolderModule implements Module {
+
+    private final Holder holder;
+
+    HolderModule(Holder holder) {
+      this.holder = holder;
+    }
+
+    @Override
+    public Class<?>[] classes() {
+      return EMPTY_CLASSES;
+    }
+
+    @Override
+    public void build(Builder builder) {
+      if (builder.isAddBeanFor(String.class)) {
+        builder.register("a");
+      }
+      if (builder.isAddBeanFor(Holder.class)) {
+        builder.register(holder);
+        holder.local = builder.getProvider(String.class);
+        holder.parent = builder.getProvider(StringBuilder.class);
+        holder.missing = builder.getProvider(Integer.class);
+      }
+      if (builder.isAddBeanFor(Long.class)) {
+        builder.register(1L);
+      }
+    }
+  }
+
+  static final class ParentModule implements Module {
+
+    private final StringBuilder bean;
+
+    ParentModule(StringBuilder bean) {
+      this.bean = bean;
+    }
+
+    @Override
+    public Class<?>[] classes() {
+      return EMPTY_CLASSES;
+    }
+
+    @Override
+    public void build(Builder builder) {
+      if (builder.isAddBeanFor(StringBuilder.class)) {
+        builder.register(bean);
+      }
+    }
+  }
+}
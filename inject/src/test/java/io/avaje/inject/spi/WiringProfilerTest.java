@@ -0,0 +1,118 @@
+package io.avaje.inject.spi;
+
+import io.avaje.inject.BeanScope;
+import io.avaje.inject.WiringProfile;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class WiringProfilerTest {
+
+  static final class Slow {}
+
+  static final class Fast {}
+
+  private static void sleep(long millis) {
+    try {
+      Thread.sleep(millis);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  @Test
+  void notProfiled_empty() {
+    try (BeanScope scope = BeanScope.builder().modules(new SlowModule()).build()) {
+      assertThat(scope.wiringProfile()).isEmpty();
+    }
+  }
+
+  @Test
+  void beansAndModules_sortedByTotal() {
+    final BeanScope scope = BeanScope.builder()
+      .modules(new SlowModule(), new FastModule())
+      .addPreDestroy(() -> sleep(20))
+      .profileWiring()
+      .build();
+
+    final WiringProfile profile = scope.wiringProfile().orElseThrow();
+    final List<WiringProfile.Timing> beans = profile.beans();
+    assertThat(beans).extracting(WiringProfile.Timing::name)
+      .containsExactly(Slow.class.getTypeName() + ":slow", Fast.class.getTypeName());
+
+    final WiringProfile.Timing slow = beans.get(0);
+    assertThat(slow.construct()).isGreaterThanOrEqualTo(Duration.ofMillis(30));
+    assertThat(slow.postConstruct()).isGreaterThanOrEqualTo(Duration.ofMillis(20));
+    assertThat(slow.preDestroy()).isZero();
+
+    assertThat(profile.modules()).extracting(WiringProfile.Timing::name)
+      .containsExactly(SlowModule.class.getTypeName(), FastModule.class.getTypeName());
+    assertThat(profile.modules().get(0).postConstruct()).isEqualTo(slow.postConstruct());
+    assertThat(profile.phases()).containsKeys("plugins", "ordering", "modules", "injection", "postConstruct")
+      .doesNotContainKeys("serviceLoader", "preDestroy");
+
+    scope.close();
+    // the PreDestroy added to the builder is not for a bean
+    assertThat(slow.preDestroy()).isGreaterThanOrEqualTo(Duration.ofMillis(10));
+    assertThat(profile.modules().get(0).preDestroy()).isEqualTo(slow.preDestroy());
+    assertThat(profile.phases().get("preDestroy")).isGreaterThanOrEqualTo(Duration.ofMillis(30));
+
+    final String report = profile.report(1);
+    assertThat(report).contains("phases:", "modules:", "beans (top 1 of 2):");
+    assertThat(report.lines()).filteredOn(line -> line.endsWith("Slow:slow")).hasSize(1);
+    assertThat(report.lines()).filteredOn(line -> line.endsWith("$Fast")).isEmpty();
+  }
+
+  @Test
+  void parallel_modulesProfiled() {
+    try (BeanScope scope = BeanScope.builder()
+      .modules(new SlowModule(), new FastModule())
+      .parallel()
+      .profileWiring()
+      .build()) {
+
+      final WiringProfile profile = scope.wiringProfile().orElseThrow();
+      assertThat(profile.beans()).hasSize(2);
+      assertThat(profile.modules().get(0).name()).isEqualTo(SlowModule.class.getTypeName());
+      // includes the injector run after building the modules
+      assertThat(profile.modules().get(0).construct()).isGreaterThanOrEqualTo(Duration.ofMillis(30));
+    }
+  }
+
+  static final class SlowModule implements Module {
+
+    @Override
+    public Class<?>[] classes() {
+      return EMPTY_CLASSES;
+    }
+
+    @Override
+    public void build(Builder builder) {
+      if (builder.isAddBeanFor("slow", Slow.class)) {
+        sleep(20);
+        builder.register(new Slow());
+        builder.addInjector(b -> sleep(10));
+        builder.addPostConstruct(() -> sleep(20));
+        builder.addPreDestroy(() -> sleep(10));
+      }
+    }
+  }
+
+  static final class FastModule implements Module {
+
+    @Override
+    public Class<?>[] classes() {
+      return EMPTY_CLASSES;
+    }
+
+    @Override
+    public void build(Builder builder) {
+      if (builder.isAddBeanFor(Fast.class)) {
+        builder.register(new Fast());
+      }
+    }
+  }
+}